@@ -21,8 +21,8 @@ public class BatchScheduler {
 
         log.info("[BatchScheduler] Running auto-refresh for {}, {}", lastYear, thisYear);
 
-        holidayKeeperService.refreshYearForAllCountries(lastYear);
-        holidayKeeperService.refreshYearForAllCountries(thisYear);
+        // 두 연도를 수집 작업 하나로 실행 (실패·중단된 경우 같은 범위로 다시 실행하면 재시작)
+        log.info("[BatchScheduler] {}", holidayKeeperService.refreshYearsForAllCountries(lastYear, thisYear));
 
         log.info("[BatchScheduler] Refresh finished.");
     }
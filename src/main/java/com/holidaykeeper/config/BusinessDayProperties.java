@@ -0,0 +1,42 @@
+package com.holidaykeeper.config;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 영업일 계산에 사용할 국가별 주말 설정
+ * @param defaultWeekend 별도 설정이 없는 국가의 주말 (기본값: 토·일)
+ * @param weekends 국가코드별 주말 (예: IL → 금·토)
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.business-day")
+public record BusinessDayProperties(
+    Set<DayOfWeek> defaultWeekend,
+    Map<String, Set<DayOfWeek>> weekends
+) {
+
+    public BusinessDayProperties {
+        if (defaultWeekend == null || defaultWeekend.isEmpty()) {
+            defaultWeekend = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        }
+        if (weekends == null) {
+            weekends = Map.of();
+        }
+        // 한 주가 모두 주말이면 영업일 탐색이 끝나지 않으므로 기동 시점에 차단
+        if (defaultWeekend.size() >= DayOfWeek.values().length
+            || weekends.values().stream().anyMatch(days -> days.size() >= DayOfWeek.values().length)) {
+            throw new IllegalArgumentException("weekend must leave at least one working day");
+        }
+    }
+
+    /**
+     * 국가의 주말 요일 조회
+     * @param countryCode 국가코드
+     * @return 주말 요일
+     */
+    public Set<DayOfWeek> weekendOf(String countryCode) {
+        return weekends.getOrDefault(countryCode, defaultWeekend);
+    }
+}
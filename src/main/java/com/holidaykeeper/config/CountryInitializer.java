@@ -2,12 +2,15 @@ package com.holidaykeeper.config;
 
 import com.holidaykeeper.dto.CountryDto;
 import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.event.HolidayDataChangedEvent;
 import com.holidaykeeper.repository.CountryRepository;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
@@ -23,7 +26,10 @@ class CountryInitializer {
 
     private final CountryRepository countryRepository;
     private final RestTemplate restTemplate;
-    private static final String COUNTRY_API_URL = "https://date.nager.at/api/v3/AvailableCountries";
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${holiday-keeper.upstream.base-url}")
+    private String baseUrl;
 
     @Transactional
     public void initializeCountries() {
@@ -31,7 +37,7 @@ class CountryInitializer {
 
         // 1. 외부 API에서 국가 목록 조회
         ResponseEntity<List<CountryDto>> response = restTemplate.exchange(
-            COUNTRY_API_URL,
+            baseUrl + "/AvailableCountries",
             HttpMethod.GET,
             null,
             new ParameterizedTypeReference<List<CountryDto>>() {}
@@ -64,6 +70,10 @@ class CountryInitializer {
             countryRepository.saveAll(newCountries);
             log.info("[HolidayKeeperInitializer] Saved {} new countries to DB", newCountries.size());
 
+            // 커밋 이후 인메모리 인덱스에 등록 (공휴일이 없는 국가도 빈 달력으로 조회 가능)
+            newCountries.forEach(country ->
+                eventPublisher.publishEvent(new HolidayDataChangedEvent(country.getCountryCode())));
+
             // 저장된 국가 로그 출력
             newCountries.forEach(country ->
                 log.debug("[HolidayKeeperInitializer] Added: {} ({})",
@@ -0,0 +1,29 @@
+package com.holidaykeeper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Spring Batch 수집 작업(holidayIngestionJob) 설정
+ * @param gridSize 동시에 실행할 국가 파티션 수
+ * @param skipLimit 파티션 하나에서 건너뛸 수 있는 (국가, 연도) 수 (넘으면 작업 실패)
+ * @param retryLimit 일시적인 DB 오류 시 청크 저장 재시도 횟수
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.batch")
+public record HolidayBatchProperties(
+    Integer gridSize,
+    Integer skipLimit,
+    Integer retryLimit
+) {
+
+    public HolidayBatchProperties {
+        if (gridSize == null || gridSize < 1) {
+            gridSize = 4;
+        }
+        if (skipLimit == null || skipLimit < 0) {
+            skipLimit = 10;
+        }
+        if (retryLimit == null || retryLimit < 1) {
+            retryLimit = 3;
+        }
+    }
+}
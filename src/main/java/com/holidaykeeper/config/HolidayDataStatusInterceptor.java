@@ -0,0 +1,32 @@
+package com.holidaykeeper.config;
+
+import com.holidaykeeper.service.HolidayWarmUpState;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 기동 시 적재가 끝나기 전의 조회 응답에 부분 데이터 헤더 추가
+ * - X-Holiday-Data-Status: partial
+ * - X-Holiday-Data-Loaded-Years: 모든 국가에 대해 적재가 끝난 연도 범위 (예: 2026, 2021-2026, none)
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayDataStatusInterceptor implements HandlerInterceptor {
+
+    public static final String DATA_STATUS_HEADER = "X-Holiday-Data-Status";
+    public static final String LOADED_YEARS_HEADER = "X-Holiday-Data-Loaded-Years";
+
+    private final HolidayWarmUpState holidayWarmUpState;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!holidayWarmUpState.complete()) {
+            response.setHeader(DATA_STATUS_HEADER, "partial");
+            response.setHeader(LOADED_YEARS_HEADER, holidayWarmUpState.loadedYears());
+        }
+        return true;
+    }
+}
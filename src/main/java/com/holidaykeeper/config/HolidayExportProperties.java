@@ -0,0 +1,24 @@
+package com.holidaykeeper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공휴일 대량 내보내기(스트리밍) 설정
+ * @param fetchSize DB 커서에서 한 번에 가져올 행 수
+ * @param flushRows 응답으로 흘려보내는(flush) 주기 (행 수)
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.export")
+public record HolidayExportProperties(
+    Integer fetchSize,
+    Integer flushRows
+) {
+
+    public HolidayExportProperties {
+        if (fetchSize == null || fetchSize < 1) {
+            fetchSize = 500;
+        }
+        if (flushRows == null || flushRows < 1) {
+            flushRows = 1_000;
+        }
+    }
+}
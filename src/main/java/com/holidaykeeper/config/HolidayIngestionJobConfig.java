@@ -0,0 +1,153 @@
+package com.holidaykeeper.config;
+
+import com.holidaykeeper.dto.HolidaySyncFetch;
+import com.holidaykeeper.dto.HolidaySyncKey;
+import com.holidaykeeper.service.HolidayCountryPartitioner;
+import com.holidaykeeper.service.HolidayIngestionJobListener;
+import com.holidaykeeper.service.HolidayPartitionListener;
+import com.holidaykeeper.service.HolidaySyncItemProcessor;
+import com.holidaykeeper.service.HolidaySyncItemWriter;
+import com.holidaykeeper.service.HolidaySyncStages;
+import com.holidaykeeper.service.HolidayYearItemReader;
+import com.holidaykeeper.service.IngestionEngine;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+/**
+ * 공휴일 수집 Spring Batch 작업
+ *
+ * holidayIngestionJob
+ *  - holidayPartitionStep : 국가 단위 파티션으로 나누어 gridSize 개씩 동시에 실행
+ *  - holidaySyncStep (파티션 하나) : (국가, 연도) 를 읽어 선택된 수집 엔진으로 비동기 조회
+ *    → write-batch-size 개 연도의 결과를 모아 트랜잭션 하나로 저장
+ *    - 청크 하나의 요청이 동시에 진행되므로 동시 요청 수는 파티션 수가 아니라 IngestionRun 의 적응형 리미터가 정함
+ *    - 재시도 후에도 실패한 외부 API 오류·응답 파싱 오류·데이터 제약 위반은 건너뜀 (파티션당 skipLimit 개까지)
+ *    - 일시적인 DB 오류는 청크 저장을 retryLimit 번까지 재시도
+ *    - 외부 API 재시도는 IngestionRun 의 적응형 리미터·재시도 예산이 맡음 (청크 재시도에서 다시 호출하지 않음)
+ *  - 실패·중단된 작업은 같은 파라미터로 다시 실행하면 완료된 파티션은 건너뛰고, 나머지는 마지막으로 커밋된 청크 다음부터 재시작
+ *
+ * 작업 저장소는 공휴일 데이터와 같은 DataSource·트랜잭션 관리자를 사용
+ *  - 청크의 공휴일 저장과 스텝 실행 기록(커밋된 연도 수)이 한 트랜잭션으로 커밋되어 재시작 위치가 데이터와 어긋나지 않음
+ *  - 별도의 파일 DB 에 실행 기록만 남기면, 인메모리 공휴일 데이터가 사라진 뒤에도 "커밋된 청크" 로 보고 건너뛰게 되므로 분리하지 않음
+ *  - 따라서 기본 설정(인메모리 H2)에서는 같은 프로세스 안의 재시작만 지원하고,
+ *    재기동 후 재시작은 spring.datasource 를 파일/외부 DB 로 바꾼 경우에만 가능
+ *
+ * 작업 실행은 HolidayIngestionJobLauncher 가 담당 (기동 시 자동 실행하지 않음 : spring.batch.job.enabled=false)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HolidayIngestionJobConfig {
+
+    public static final String JOB_NAME = "holidayIngestionJob";
+    public static final String START_YEAR = "startYear";
+    public static final String END_YEAR = "endYear";
+    // 비동기 수집 작업 ID (식별 파라미터 아님 : 재시작 시 새 요청 ID 로 바뀔 수 있음)
+    public static final String REQUEST_ID = "requestId";
+    // 국가 파티션 스텝 (실행 이름 : holidaySyncStep:country-KR)
+    public static final String WORKER_STEP_NAME = "holidaySyncStep";
+
+    private static final String PARTITION_STEP_NAME = "holidayPartitionStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final HolidayBatchProperties batchProperties;
+    private final HolidayIngestionProperties ingestionProperties;
+
+    @Bean
+    public Job holidayIngestionJob(Step holidayPartitionStep, HolidayIngestionJobListener holidayIngestionJobListener) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .listener(holidayIngestionJobListener)
+            .start(holidayPartitionStep)
+            .build();
+    }
+
+    @Bean
+    public Step holidayPartitionStep(HolidayCountryPartitioner holidayCountryPartitioner, Step holidaySyncStep) {
+        // 파티션 실행용 스레드 (애플리케이션 공용 TaskExecutor 를 대체하지 않도록 빈으로 등록하지 않음)
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("holiday-batch-");
+        taskExecutor.setConcurrencyLimit(batchProperties.gridSize());
+
+        return new StepBuilder(PARTITION_STEP_NAME, jobRepository)
+            .partitioner(WORKER_STEP_NAME, holidayCountryPartitioner)
+            .step(holidaySyncStep)
+            .gridSize(batchProperties.gridSize())
+            .taskExecutor(taskExecutor)
+            .build();
+    }
+
+    @Bean
+    public Step holidaySyncStep(HolidayYearItemReader holidayYearItemReader,
+        HolidaySyncItemProcessor holidaySyncItemProcessor, HolidaySyncItemWriter holidaySyncItemWriter,
+        HolidayPartitionListener holidayPartitionListener) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+            .<HolidaySyncKey, HolidaySyncFetch>chunk(ingestionProperties.writeBatchSize(), transactionManager)
+            .reader(holidayYearItemReader)
+            .processor(holidaySyncItemProcessor)
+            .writer(holidaySyncItemWriter)
+            .faultTolerant()
+            // 청크 롤백·재시도 시 외부 API 를 다시 호출하지 않도록 처리 결과(비동기 수집 결과)를 재사용
+            .processorNonTransactional()
+            .skip(RestClientException.class)
+            .skip(WebClientException.class)
+            .skip(UncheckedIOException.class)
+            .skip(DataIntegrityViolationException.class)
+            .skipLimit(batchProperties.skipLimit())
+            .retry(TransientDataAccessException.class)
+            .retryLimit(batchProperties.retryLimit())
+            .listener((SkipListener<HolidaySyncKey, HolidaySyncFetch>) holidayPartitionListener)
+            .listener((StepExecutionListener) holidayPartitionListener)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public HolidayYearItemReader holidayYearItemReader(
+        @Value("#{stepExecutionContext['" + HolidayCountryPartitioner.COUNTRY_CODE + "']}") String countryCode,
+        @Value("#{jobParameters['" + START_YEAR + "']}") Long startYear,
+        @Value("#{jobParameters['" + END_YEAR + "']}") Long endYear) {
+        return new HolidayYearItemReader(countryCode, startYear.intValue(), endYear.intValue());
+    }
+
+    @Bean
+    @StepScope
+    public HolidaySyncItemProcessor holidaySyncItemProcessor(
+        @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId,
+        IngestionEngine ingestionEngine, HolidayIngestionJobListener holidayIngestionJobListener) {
+        return new HolidaySyncItemProcessor(ingestionEngine, holidayIngestionJobListener.state(jobExecutionId));
+    }
+
+    @Bean
+    @StepScope
+    public HolidaySyncItemWriter holidaySyncItemWriter(
+        @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId,
+        HolidaySyncStages holidaySyncStages, HolidayIngestionJobListener holidayIngestionJobListener) {
+        return new HolidaySyncItemWriter(holidaySyncStages, holidayIngestionJobListener.state(jobExecutionId).run());
+    }
+
+    @Bean
+    @StepScope
+    public HolidayPartitionListener holidayPartitionListener(
+        @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId,
+        HolidayIngestionJobListener holidayIngestionJobListener) {
+        return new HolidayPartitionListener(holidayIngestionJobListener.state(jobExecutionId).run());
+    }
+}
@@ -0,0 +1,30 @@
+package com.holidaykeeper.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 수집 작업 API 설정
+ * @param progressInterval 진행 이벤트(SSE) 전송 주기
+ * @param sseTimeout 진행 이벤트 구독 최대 유지 시간
+ * @param retainedJobs 조회용으로 보관할 끝난 작업 수
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.ingestion-jobs")
+public record HolidayIngestionJobProperties(
+    Duration progressInterval,
+    Duration sseTimeout,
+    Integer retainedJobs
+) {
+
+    public HolidayIngestionJobProperties {
+        if (progressInterval == null || progressInterval.isNegative() || progressInterval.isZero()) {
+            progressInterval = Duration.ofSeconds(1);
+        }
+        if (sseTimeout == null || sseTimeout.isNegative() || sseTimeout.isZero()) {
+            sseTimeout = Duration.ofMinutes(30);
+        }
+        if (retainedJobs == null || retainedJobs < 1) {
+            retainedJobs = 20;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.holidaykeeper.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API 수집(동시성 조절 · 재시도) 설정
+ * @param initialConcurrency 시작 동시 요청 수
+ * @param minConcurrency 최소 동시 요청 수
+ * @param maxConcurrency 최대 동시 요청 수
+ * @param latencyThreshold 이보다 느린 응답은 과부하 신호로 보고 동시 요청 수를 줄임
+ * @param decreaseRatio 과부하 신호(429/5xx/지연) 시 동시 요청 수에 곱할 비율
+ * @param maxRetries 국가·연도 하나당 최대 재시도 횟수
+ * @param initialBackoff 첫 재시도 대기 시간 (재시도마다 두 배, 지터 적용)
+ * @param maxBackoff 재시도 대기 시간 상한
+ * @param retryBudgetRatio 실행 전체에서 허용할 재시도 비율 (요청 수 대비)
+ * @param minRetryBudget 요청 수와 관계없이 허용할 최소 재시도 수
+ * @param writeBatchSize 저장 트랜잭션 하나에 묶을 최대 (국가, 연도) 수
+ * @param writeFlushInterval 묶음이 다 차지 않아도 저장하는 주기
+ * @param writeQueueBatches 저장 단계 앞에 대기시킬 최대 묶음 수 (가득 차면 수집 단계가 멈춤)
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.ingestion")
+public record HolidayIngestionProperties(
+    Integer initialConcurrency,
+    Integer minConcurrency,
+    Integer maxConcurrency,
+    Duration latencyThreshold,
+    Double decreaseRatio,
+    Integer maxRetries,
+    Duration initialBackoff,
+    Duration maxBackoff,
+    Double retryBudgetRatio,
+    Integer minRetryBudget,
+    Integer writeBatchSize,
+    Duration writeFlushInterval,
+    Integer writeQueueBatches
+) {
+
+    public HolidayIngestionProperties {
+        if (minConcurrency == null || minConcurrency < 1) {
+            minConcurrency = 1;
+        }
+        if (maxConcurrency == null || maxConcurrency < minConcurrency) {
+            maxConcurrency = Math.max(32, minConcurrency);
+        }
+        if (initialConcurrency == null || initialConcurrency < minConcurrency || initialConcurrency > maxConcurrency) {
+            initialConcurrency = Math.min(Math.max(4, minConcurrency), maxConcurrency);
+        }
+        if (latencyThreshold == null || latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            latencyThreshold = Duration.ofSeconds(2);
+        }
+        if (decreaseRatio == null || decreaseRatio <= 0 || decreaseRatio >= 1) {
+            decreaseRatio = 0.5;
+        }
+        if (maxRetries == null || maxRetries < 0) {
+            maxRetries = 5;
+        }
+        if (initialBackoff == null || initialBackoff.isNegative() || initialBackoff.isZero()) {
+            initialBackoff = Duration.ofMillis(500);
+        }
+        if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+            maxBackoff = initialBackoff.compareTo(Duration.ofSeconds(30)) > 0 ? initialBackoff : Duration.ofSeconds(30);
+        }
+        if (retryBudgetRatio == null || retryBudgetRatio < 0) {
+            retryBudgetRatio = 0.2;
+        }
+        if (minRetryBudget == null || minRetryBudget < 0) {
+            minRetryBudget = 20;
+        }
+        if (writeBatchSize == null || writeBatchSize < 1) {
+            writeBatchSize = 50;
+        }
+        if (writeFlushInterval == null || writeFlushInterval.isNegative() || writeFlushInterval.isZero()) {
+            writeFlushInterval = Duration.ofMillis(500);
+        }
+        if (writeQueueBatches == null || writeQueueBatches < 1) {
+            writeQueueBatches = 2;
+        }
+    }
+}
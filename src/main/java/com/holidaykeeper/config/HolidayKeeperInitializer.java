@@ -1,40 +1,100 @@
 package com.holidaykeeper.config;
 
-import com.holidaykeeper.dto.CountryDto;
-import com.holidaykeeper.entity.Country;
-import com.holidaykeeper.repository.CountryRepository;
-import com.holidaykeeper.service.HolidayKeeperService;
+import com.holidaykeeper.service.HolidayIngestionJobLauncher;
+import com.holidaykeeper.service.HolidayIngestionJobListener;
+import com.holidaykeeper.service.HolidaySnapshotService;
+import com.holidaykeeper.service.HolidayWarmUpState;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+/**
+ * 기동 시 공휴일 적재(warm-up)
+ * - 외부 API 호출 전에 공휴일 스냅샷이 있으면 먼저 복원 (메모리 매핑 읽기 + JDBC 배치 저장, 외부 API 없이도 응답 가능)
+ * - 기동을 막지 않도록 별도 스레드에서 국가 목록 → 모든 국가의 올해 → 지난 연도(past-years) 순으로 적재
+ * - 진행 상태는 HolidayWarmUpState 에 기록하고, 준비 상태(readiness)는 HolidayWarmUpHealthIndicator 로 노출
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class HolidayKeeperInitializer implements ApplicationRunner {
 
-    private final HolidayKeeperService  holidayKeeperService;
     private final CountryInitializer countryInitializer;
+    private final HolidayIngestionJobLauncher holidayIngestionJobLauncher;
+    private final HolidayWarmUpState holidayWarmUpState;
+    private final HolidayWarmUpProperties warmUpProperties;
+    private final HolidaySnapshotService holidaySnapshotService;
 
     @Override
-    public void run(ApplicationArguments args) throws Exception {
+    public void run(ApplicationArguments args) {
+        // 스냅샷이 담은 연도까지는 바로 준비 상태 (이후 외부 API 적재는 조건부 요청으로 변경분만 반영)
+        holidaySnapshotService.restore().ifPresent(snapshot -> {
+            holidayWarmUpState.countriesLoaded();
+            markSnapshotYears(snapshot.completeYears());
+        });
 
+        Thread.ofPlatform()
+            .name("holiday-warm-up")
+            .daemon()
+            .start(this::warmUp);
+    }
+
+    // 올해를 포함하여 빠진 연도 없이 이어지는 범위만 적재된 것으로 표시 (중간에 빠진 연도를 적재된 범위로 알리지 않도록)
+    private void markSnapshotYears(List<Integer> years) {
+        int thisYear = LocalDateTime.now().getYear();
+        if (!years.contains(thisYear)) {
+            return;
+        }
+        int startYear = thisYear;
+        while (years.contains(startYear - 1)) {
+            startYear--;
+        }
+        int endYear = thisYear;
+        while (years.contains(endYear + 1)) {
+            endYear++;
+        }
+        holidayWarmUpState.yearsLoaded(startYear, endYear);
+    }
+
+    private void warmUp() {
+        int thisYear = LocalDateTime.now().getYear();
+        int pastYears = warmUpProperties.pastYears();
         try {
             countryInitializer.initializeCountries();   // countryInitializer가 별개의 트랜젝션에서 커밋된후 종료되어야 DB에서 country를 검색해 공휴일을 저장할수있다.
-            holidayKeeperService.save();
+            holidayWarmUpState.countriesLoaded();
+
+            // 올해를 먼저 적재하여 가장 많이 조회하는 데이터부터 응답할 수 있게 함
+            load(thisYear, thisYear);
+            if (pastYears > 0) {
+                load(thisYear - pastYears, thisYear - 1);
+            }
+            holidayWarmUpState.completed();
             log.info("[HolidayKeeperInitializer] initialization completed successfully");
         } catch (Exception e) {
+            holidayWarmUpState.failed(e.getMessage());
             log.error("[HolidayKeeperInitializer] Failed to initialization: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private void load(int startYear, int endYear) {
+        JobExecution execution = holidayIngestionJobLauncher.launch(startYear, endYear);
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException(String.format("%d~%d 공휴일 적재 작업이 %s 상태로 끝났습니다.",
+                startYear, endYear, execution.getStatus()));
+        }
+        // 건너뛴 (국가, 연도) 가 있으면 모든 국가에 대해 적재된 연도가 아니므로 부분 데이터로 남김
+        int failed = execution.getExecutionContext().getInt(HolidayIngestionJobListener.FAILED, 0);
+        if (failed > 0) {
+            log.warn("[HolidayKeeperInitializer] {}~{} loaded with {} country-years skipped", startYear, endYear, failed);
+            holidayWarmUpState.yearsSkipped(startYear, endYear, failed);
+            return;
+        }
+        holidayWarmUpState.yearsLoaded(startYear, endYear);
+    }
+}
@@ -0,0 +1,25 @@
+package com.holidaykeeper.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공휴일 검색 결과 캐시 설정
+ * @param maximumWeight 캐시에 보관할 최대 가중치 (페이지마다 1 + 레코드 수)
+ * @param expireAfterWrite 저장 후 만료 시간 (데이터 변경 시에는 즉시 무효화됨)
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.search-cache")
+public record HolidaySearchCacheProperties(
+    Long maximumWeight,
+    Duration expireAfterWrite
+) {
+
+    public HolidaySearchCacheProperties {
+        if (maximumWeight == null || maximumWeight < 1) {
+            maximumWeight = 100_000L;
+        }
+        if (expireAfterWrite == null || expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            expireAfterWrite = Duration.ofHours(1);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.holidaykeeper.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공휴일 데이터 스냅샷 설정
+ * @param enabled 기동 시 스냅샷 복원 · 수집 완료 후 스냅샷 기록 여부
+ * @param path 스냅샷 파일 경로
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.snapshot")
+public record HolidaySnapshotProperties(
+    Boolean enabled,
+    Path path
+) {
+
+    public HolidaySnapshotProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (path == null) {
+            path = Path.of("data", "holiday-snapshot.bin");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.holidaykeeper.config;
+
+import com.holidaykeeper.service.HolidayWarmUpState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 공휴일 적재 상태 (readiness 그룹에 포함 : /actuator/health/readiness)
+ * - readyWhen 기준에 도달하기 전에는 OUT_OF_SERVICE 로 트래픽을 받지 않음
+ * - liveness 에는 포함하지 않음 (적재 중에도 프로세스는 정상)
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayWarmUpHealthIndicator implements HealthIndicator {
+
+    private final HolidayWarmUpState holidayWarmUpState;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = holidayWarmUpState.ready() ? Health.up() : Health.outOfService();
+        builder.withDetail("phase", holidayWarmUpState.phase())
+            .withDetail("readyWhen", holidayWarmUpState.readyWhen())
+            .withDetail("loadedYears", holidayWarmUpState.loadedYears());
+        if (holidayWarmUpState.failure() != null) {
+            builder.withDetail("failure", holidayWarmUpState.failure());
+        }
+        if (holidayWarmUpState.skipped() != null) {
+            builder.withDetail("skipped", holidayWarmUpState.skipped());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.holidaykeeper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기동 시 공휴일 적재(warm-up) 설정
+ * @param readyWhen 준비 상태(readiness)로 전환할 기준
+ * @param pastYears 올해 이후 이어서 적재할 지난 연도 수
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.warm-up")
+public record HolidayWarmUpProperties(
+    ReadyWhen readyWhen,
+    Integer pastYears
+) {
+
+    public HolidayWarmUpProperties {
+        if (readyWhen == null) {
+            readyWhen = ReadyWhen.CURRENT_YEAR;
+        }
+        if (pastYears == null || pastYears < 0) {
+            pastYears = 5;
+        }
+    }
+
+    /**
+     * 준비 상태 전환 기준
+     */
+    public enum ReadyWhen {
+        // 국가 목록 적재 후
+        COUNTRIES,
+        // 모든 국가의 올해 공휴일 적재 후
+        CURRENT_YEAR,
+        // 지난 연도까지 모두 적재 후
+        ALL_YEARS
+    }
+}
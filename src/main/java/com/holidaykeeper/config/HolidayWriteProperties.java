@@ -0,0 +1,24 @@
+package com.holidaykeeper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공휴일 대량 저장(JDBC) 설정
+ * @param rowsPerStatement INSERT 문 하나에 담을 행 수 (multi-row VALUES)
+ * @param batchSize JDBC 배치 한 번에 전송할 INSERT 문 수
+ */
+@ConfigurationProperties(prefix = "holiday-keeper.write")
+public record HolidayWriteProperties(
+    Integer rowsPerStatement,
+    Integer batchSize
+) {
+
+    public HolidayWriteProperties {
+        if (rowsPerStatement == null || rowsPerStatement < 1) {
+            rowsPerStatement = 50;
+        }
+        if (batchSize == null || batchSize < 1) {
+            batchSize = 20;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.holidaykeeper.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/*
+    가상 스레드 수집 엔진에서 외부 공휴일 API를 blocking 방식으로 호출하기 위한 RestClientConfig
+    (요청 스레드가 가상 스레드이므로 응답을 기다리는 동안 캐리어 스레드를 점유하지 않음)
+ */
+@Slf4j
+@Configuration
+public class RestClientConfig {
+
+    @Bean
+    public RestClient restClient(@Value("${holiday-keeper.upstream.base-url}") String baseUrl) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(10));
+
+        return RestClient.builder()
+            .baseUrl(baseUrl)
+            .requestFactory(requestFactory)
+            .requestInterceptor((request, body, execution) -> {
+                log.info("[RestClient] Request: {} {}", request.getMethod(), request.getURI());
+                return execution.execute(request, body);
+            })
+            .build();
+    }
+}
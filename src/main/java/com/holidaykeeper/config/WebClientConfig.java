@@ -3,6 +3,7 @@ package com.holidaykeeper.config;
 import io.netty.channel.ChannelOption;
 import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -13,16 +14,14 @@ import reactor.netty.http.client.HttpClient;
 @Configuration
 public class WebClientConfig {
 
-    private static final String BASE_URL = "https://date.nager.at/api/v3";
-
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(@Value("${holiday-keeper.upstream.base-url}") String baseUrl) {
         HttpClient httpClient = HttpClient.create()
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
             .responseTimeout(Duration.ofSeconds(10));
 
         return WebClient.builder()
-            .baseUrl(BASE_URL)
+            .baseUrl(baseUrl)
             .clientConnector(new ReactorClientHttpConnector(httpClient))
             .filter(((request, next) -> {
                 log.info("[WebClient] Request: {} {}", request.method(), request.url());
@@ -0,0 +1,21 @@
+package com.holidaykeeper.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final HolidayDataStatusInterceptor holidayDataStatusInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 공휴일 데이터를 조회하는 API 에만 적용 (수집 작업·캐시 통계 제외)
+        registry.addInterceptor(holidayDataStatusInterceptor)
+            .addPathPatterns("/api/holidays/**", "/api/business-days/**")
+            .excludePathPatterns("/api/holidays/ingestion/**", "/api/holidays/search-cache/**");
+    }
+}
@@ -0,0 +1,133 @@
+package com.holidaykeeper.controller;
+
+import com.holidaykeeper.dto.response.BusinessDateResponse;
+import com.holidaykeeper.dto.response.BusinessDayCountResponse;
+import com.holidaykeeper.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "BusinessDay", description = "영업일 계산 API")
+public interface BusinessDayApi {
+
+    @Operation(
+        summary = "N 영업일 후 날짜 계산",
+        description = "기준일로부터 N 영업일 후(음수면 전)의 날짜를 계산합니다. 주말과 공휴일은 제외됩니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "계산 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BusinessDateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "계산 실패 (공휴일 데이터를 적재하지 않은 연도가 포함됨)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "계산 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<BusinessDateResponse> addBusinessDays(
+        @Parameter(description = "국가 코드", required = true, example = "KR")
+        String countryCode,
+        @Parameter(description = "기준일 (YYYY-MM-DD)", required = true, example = "2025-05-02")
+        LocalDate date,
+        @Parameter(description = "더할 영업일 수 (음수 가능)", required = true, example = "3")
+        Integer days
+    );
+
+    @Operation(
+        summary = "다음 영업일 계산",
+        description = "기준일 다음 영업일을 계산합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "계산 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BusinessDateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "계산 실패 (공휴일 데이터를 적재하지 않은 연도가 포함됨)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "계산 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<BusinessDateResponse> nextBusinessDay(
+        @Parameter(description = "국가 코드", required = true, example = "KR")
+        String countryCode,
+        @Parameter(description = "기준일 (YYYY-MM-DD)", required = true, example = "2025-05-02")
+        LocalDate date
+    );
+
+    @Operation(
+        summary = "영업일 수 계산",
+        description = "fromDate(포함)부터 toDate(미포함)까지의 영업일 수를 계산합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "계산 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BusinessDayCountResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "계산 실패 (공휴일 데이터를 적재하지 않은 연도가 포함됨)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "계산 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<BusinessDayCountResponse> businessDaysBetween(
+        @Parameter(description = "국가 코드", required = true, example = "KR")
+        String countryCode,
+        @Parameter(description = "시작일 (YYYY-MM-DD, 포함)", required = true, example = "2025-05-01")
+        LocalDate fromDate,
+        @Parameter(description = "종료일 (YYYY-MM-DD, 미포함)", required = true, example = "2025-06-01")
+        LocalDate toDate
+    );
+}
@@ -0,0 +1,76 @@
+package com.holidaykeeper.controller;
+
+import com.holidaykeeper.dto.response.BusinessDateResponse;
+import com.holidaykeeper.dto.response.BusinessDayCountResponse;
+import com.holidaykeeper.service.BusinessDayService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/business-days/{countryCode}")
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessDayController implements BusinessDayApi {
+
+    private final BusinessDayService businessDayService;
+
+    /**
+     * 기준일로부터 N 영업일 후(음수면 전)의 날짜 계산
+     * @param countryCode 국가코드
+     * @param date 기준일
+     * @param days 더할 영업일 수
+     * @return 계산된 영업일
+     */
+    @Override
+    @GetMapping("/add")
+    public ResponseEntity<BusinessDateResponse> addBusinessDays(
+        @PathVariable String countryCode,
+        @RequestParam LocalDate date,
+        @RequestParam Integer days) {
+        LocalDate result = businessDayService.addBusinessDays(countryCode, date, days);
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(new BusinessDateResponse(countryCode, date, days, result));
+    }
+
+    /**
+     * 기준일 다음 영업일 계산
+     * @param countryCode 국가코드
+     * @param date 기준일
+     * @return 다음 영업일
+     */
+    @Override
+    @GetMapping("/next")
+    public ResponseEntity<BusinessDateResponse> nextBusinessDay(
+        @PathVariable String countryCode,
+        @RequestParam LocalDate date) {
+        LocalDate result = businessDayService.nextBusinessDay(countryCode, date);
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(new BusinessDateResponse(countryCode, date, 1, result));
+    }
+
+    /**
+     * 두 날짜 사이의 영업일 수 계산
+     * @param countryCode 국가코드
+     * @param fromDate 시작일 (포함)
+     * @param toDate 종료일 (미포함)
+     * @return 영업일 수
+     */
+    @Override
+    @GetMapping("/between")
+    public ResponseEntity<BusinessDayCountResponse> businessDaysBetween(
+        @PathVariable String countryCode,
+        @RequestParam LocalDate fromDate,
+        @RequestParam LocalDate toDate) {
+        long businessDays = businessDayService.businessDaysBetween(countryCode, fromDate, toDate);
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(new BusinessDayCountResponse(countryCode, fromDate, toDate, businessDays));
+    }
+}
@@ -1,44 +1,119 @@
 package com.holidaykeeper.controller;
 
+import com.holidaykeeper.dto.HolidayExportFormat;
+import com.holidaykeeper.dto.HolidayOverlapMode;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.dto.request.HolidayCheckRequest;
+import com.holidaykeeper.dto.response.HolidayCheckResponse;
+import com.holidaykeeper.dto.response.HolidayOverlapResponse;
 import com.holidaykeeper.dto.response.HolidayPageResponse;
+import com.holidaykeeper.dto.response.IngestionJobResponse;
+import com.holidaykeeper.dto.response.SearchCacheStatsResponse;
 import com.holidaykeeper.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
-import java.util.UUID;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Holiday", description = "공휴일 관련 API")
 public interface HolidayApi {
 
     @Operation(
-        summary = "공휴일 데이터 초기 적재",
-        description = "최근 5년(2020~2025)의 전체 국가 공휴일 데이터를 외부 API에서 수집하여 저장합니다."
+        summary = "공휴일 데이터 적재 작업 접수",
+        description = "연도 범위(생략 시 최근 5년)의 전체 국가 공휴일 수집 작업을 접수하고 작업 ID 를 바로 반환합니다. "
+            + "같은 연도 범위의 작업이 대기·실행 중이면 새로 만들지 않고 그 작업을 반환합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "작업 접수 (Location 헤더 : 작업 조회 주소)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = IngestionJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 연도 범위 (1900~2199 년, 최대 50개 연도)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<IngestionJobResponse> saveHolidays(
+        @Parameter(description = "시작 연도 (생략 시 5년 전)", example = "2021")
+        Integer startYear,
+        @Parameter(description = "종료 연도 (생략 시 올해)", example = "2026")
+        Integer endYear
+    );
+
+    @Operation(
+        summary = "공휴일 데이터 적재 작업 조회",
+        description = "작업 상태, (국가, 연도) 별 진행 상황, 처리 수, 예상 남은 시간을 조회합니다."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "데이터 적재 성공",
+            description = "작업 조회 성공",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = String.class)
+                schema = @Schema(implementation = IngestionJobResponse.class)
             )
         ),
         @ApiResponse(
-            responseCode = "500",
-            description = "데이터 적재 실패",
+            responseCode = "404",
+            description = "존재하지 않는 작업",
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = ErrorResponse.class)
             )
         )
     })
-    ResponseEntity<String> saveHolidays();
+    ResponseEntity<IngestionJobResponse> getIngestionJob(
+        @Parameter(description = "작업 ID", required = true)
+        String jobId
+    );
+
+    @Operation(
+        summary = "공휴일 데이터 적재 작업 진행 이벤트 구독",
+        description = "작업 진행 상황을 Server-Sent Events 로 전송합니다. 진행 중에는 progress 이벤트를 주기적으로, "
+            + "작업이 끝나면 finished 이벤트를 한 번 보낸 뒤 연결을 닫습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "구독 시작",
+            content = @Content(
+                mediaType = "text/event-stream",
+                schema = @Schema(implementation = IngestionJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "존재하지 않는 작업",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    SseEmitter streamIngestionJob(
+        @Parameter(description = "작업 ID", required = true)
+        String jobId
+    );
 
     @Operation(
         summary = "공휴일 데이터 삭제",
@@ -87,6 +162,10 @@ public interface HolidayApi {
                 schema = @Schema(implementation = HolidayPageResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "변경 없음 (If-None-Match 가 현재 ETag 와 같음)"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "공휴일 검색 실패 (잘못된 요청)",
@@ -97,11 +176,11 @@ public interface HolidayApi {
         )
     })
     ResponseEntity<HolidayPageResponse> searchHolidays(
-        @Parameter(description = "커서 기반 페이지네이션을 위한 cursor ")
+        @Parameter(description = "이전 응답의 nextCursor 토큰 (정렬 조건이 같아야 함)")
         String cursor,
 
-        @Parameter(description = "idAfter 값 (UUID)")
-        UUID idAfter,
+        @Parameter(description = "date 정렬에서 이 날짜부터 조회 시작 (DESC 는 이 날짜 이전부터)", example = "2024-06-01")
+        LocalDate seekDate,
 
         @Parameter(description = "국가 코드", example = "KR")
         String countryCode,
@@ -128,7 +207,286 @@ public interface HolidayApi {
         String sortDirection,
 
         @Parameter(description = "포함되어있는 단어 검색")
-        String nameLike
+        String nameLike,
+
+        @Parameter(description = "전체 갯수(totalCount) 포함 여부 (생략 시 첫 페이지에서만 포함)")
+        Boolean includeTotal,
+
+        @Parameter(hidden = true)
+        WebRequest webRequest
+    );
+
+    @Operation(
+        summary = "검색 결과 캐시 통계",
+        description = "공휴일 검색 페이지 캐시의 적중/실패/제거 횟수와 현재 보관량을 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "통계 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SearchCacheStatsResponse.class)
+            )
+        )
+    })
+    ResponseEntity<SearchCacheStatsResponse> getSearchCacheStats();
+
+    @Operation(
+        summary = "마지막 수집 실행 보고서",
+        description = "마지막 외부 API 수집(초기 적재·갱신)의 요청·재시도·과부하 횟수, 동시 요청 한도 변화, 재시도 후 성공하거나 건너뛴 국가·연도를 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "보고서 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = IngestionReport.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "204",
+            description = "아직 수집을 실행하지 않음"
+        )
+    })
+    ResponseEntity<IngestionReport> getLastIngestionReport();
+
+    @Operation(
+        summary = "공휴일 여부 확인",
+        description = "특정 국가의 날짜가 공휴일인지 인메모리 달력 인덱스로 확인합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "공휴일 여부 확인 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = HolidayCheckResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "공휴일 여부 확인 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<HolidayCheckResponse> checkHoliday(
+        @Parameter(description = "국가 코드", required = true, example = "KR")
+        String countryCode,
+        @Parameter(description = "확인할 날짜 (YYYY-MM-DD)", required = true, example = "2025-05-05")
+        LocalDate date
+    );
+
+    @Operation(
+        summary = "공휴일 여부 일괄 확인 (JSON)",
+        description = "(국가 코드, 날짜) 쌍 목록의 공휴일 여부를 한 번에 확인합니다. 결과는 요청 순서와 같습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "일괄 확인 성공",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = HolidayCheckResponse.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "일괄 확인 실패 (잘못된 요청)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "일괄 확인 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<List<HolidayCheckResponse>> checkHolidays(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "확인할 (국가 코드, 날짜) 목록 (최대 100,000건)",
+            required = true,
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = HolidayCheckRequest.class))
+            )
+        )
+        InputStream body
+    ) throws IOException;
+
+    @Operation(
+        summary = "공휴일 여부 일괄 확인 (NDJSON)",
+        description = "한 줄에 하나의 {\"countryCode\", \"date\"} 객체를 담은 NDJSON 본문을 받아 공휴일 여부를 한 번에 확인합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "일괄 확인 성공",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = HolidayCheckResponse.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "일괄 확인 실패 (잘못된 요청)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "일괄 확인 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<List<HolidayCheckResponse>> checkHolidaysNdjson(InputStream body) throws IOException;
+
+    @Operation(
+        summary = "여러 국가 공휴일 교집합/합집합 조회",
+        description = "여러 국가의 공휴일 중 모든 국가(ALL), 하나 이상의 국가(ANY), 정확히 k 개 국가(EXACTLY)가 쉬는 날을 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = HolidayOverlapResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "조회 실패 (잘못된 요청)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "조회 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<HolidayOverlapResponse> findOverlap(
+        @Parameter(description = "국가 코드 목록 (생략 시 전체 국가)", example = "DE,FR")
+        List<String> countryCodes,
+        @Parameter(description = "검색 시작일 (YYYY-MM-DD)", required = true, example = "2025-01-01")
+        LocalDate fromDate,
+        @Parameter(description = "검색 종료일 (YYYY-MM-DD)", required = true, example = "2025-12-31")
+        LocalDate toDate,
+        @Parameter(description = "계산 방식", required = true, example = "ALL")
+        HolidayOverlapMode mode,
+        @Parameter(description = "EXACTLY 모드에서 공휴일이어야 하는 국가 수", example = "2")
+        Integer k
+    );
+
+    @Operation(
+        summary = "국가별 공휴일 iCalendar 구독 피드",
+        description = "캘린더 앱에서 구독할 수 있는 .ics 피드를 반환합니다. 데이터가 바뀌지 않았으면 "
+            + "If-None-Match / If-Modified-Since 요청에 본문 없이 304 로 응답합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "피드 조회 성공",
+            content = @Content(mediaType = "text/calendar")
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "변경 없음"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "피드 조회 실패 (잘못된 공휴일 타입)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "피드 조회 실패 (국가 없음)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<byte[]> getIcsFeed(
+        @Parameter(description = "국가 코드", required = true, example = "KR")
+        String countryCode,
+
+        @Parameter(description = "공휴일 타입",
+            schema = @Schema(allowableValues = {"Public", "Bank", "School", "Authorities", "Optional", "Observance"}))
+        String holidayType,
+
+        @Parameter(description = "지역 코드 (지정하면 전국 공휴일과 해당 지역 공휴일만 포함)", example = "DE-BY")
+        String county
+    );
+
+    @Operation(
+        summary = "공휴일 데이터 대량 내보내기",
+        description = "필터에 해당하는 공휴일 전체를 날짜순으로 NDJSON 또는 CSV 로 스트리밍합니다. "
+            + "Accept-Encoding 에 gzip 이 있으면 압축하여 전송합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "내보내기 성공",
+            content = {
+                @Content(mediaType = "application/x-ndjson"),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "내보내기 실패 (잘못된 요청)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<StreamingResponseBody> exportHolidays(
+        @Parameter(description = "내보내기 형식 (기본값: NDJSON)", example = "NDJSON")
+        HolidayExportFormat format,
+
+        @Parameter(description = "국가 코드", example = "KR")
+        String countryCode,
+
+        @Parameter(description = "검색 시작일 (YYYY-MM-DD)", example = "2024-01-01")
+        LocalDate fromDate,
+
+        @Parameter(description = "검색 종료일 (YYYY-MM-DD)", example = "2024-12-31")
+        LocalDate toDate,
+
+        @Parameter(description = "공휴일 타입",
+            schema = @Schema(allowableValues = {"Public", "Bank", "School", "Authorities", "Optional", "Observance"}))
+        String holidayType,
+
+        @Parameter(description = "포함되어있는 단어 검색")
+        String nameLike,
+
+        @Parameter(hidden = true)
+        String acceptEncoding
     );
 
     @Operation(
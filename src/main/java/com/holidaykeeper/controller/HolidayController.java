@@ -1,24 +1,57 @@
 package com.holidaykeeper.controller;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeper.dto.HolidayExportFormat;
+import com.holidaykeeper.dto.HolidayIcsFeed;
+import com.holidaykeeper.dto.HolidayOverlapMode;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.dto.request.HolidayCheckRequest;
+import com.holidaykeeper.dto.response.HolidayCheckResponse;
+import com.holidaykeeper.dto.response.HolidayOverlapResponse;
 import com.holidaykeeper.dto.response.HolidayPageResponse;
-import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.dto.response.IngestionJobResponse;
+import com.holidaykeeper.dto.response.SearchCacheStatsResponse;
+import com.holidaykeeper.exception.InvalidRequestException;
+import com.holidaykeeper.service.HolidayCalendarIndex;
 import com.holidaykeeper.service.HolidayDataService;
+import com.holidaykeeper.service.HolidayDataVersions;
+import com.holidaykeeper.service.HolidayExportService;
+import com.holidaykeeper.service.HolidayIcsService;
 import com.holidaykeeper.service.HolidayKeeperService;
+import com.holidaykeeper.service.HolidayOverlapService;
+import com.holidaykeeper.service.HolidaySearchCache;
+import com.holidaykeeper.service.IngestionJobService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/holidays")
@@ -27,19 +60,57 @@ import org.springframework.web.bind.annotation.RestController;
 public class HolidayController implements HolidayApi{
 
     private final HolidayKeeperService holidayKeeperService;
+    private final IngestionJobService ingestionJobService;
     private final HolidayDataService holidayDataService;
+    private final HolidayCalendarIndex holidayCalendarIndex;
+    private final HolidayOverlapService holidayOverlapService;
+    private final HolidayExportService holidayExportService;
+    private final HolidayIcsService holidayIcsService;
+    private final HolidayDataVersions holidayDataVersions;
+    private final HolidaySearchCache holidaySearchCache;
+    private final ObjectMapper objectMapper;
+
+    // 한 번의 요청으로 확인할 수 있는 최대 (국가, 날짜) 쌍 수
+    private static final int MAX_CHECK_BATCH_SIZE = 100_000;
 
     /**
-     * 최근 5 년(2020 ~ 2025)의 공휴일을 외부 API에서 수집하여 저장하는 메서드
-     * @return 저장성공시 완료 안내메시지
+     * 연도 범위(생략 시 최근 5년)의 공휴일 수집 작업을 접수하는 메서드 (요청 스레드는 바로 반환)
+     * @param startYear 시작 연도
+     * @param endYear 종료 연도
+     * @return 202 + 작업 상태 (Location : 작업 조회 주소)
      */
     @Override
     @PostMapping
-    public ResponseEntity<String> saveHolidays() {
-        log.info("[HolidayController] Saving holiday");
-        String result = holidayKeeperService.save();
-        log.info("[HolidayController] Saved holiday");
-        return ResponseEntity.ok(result);
+    public ResponseEntity<IngestionJobResponse> saveHolidays(
+        @RequestParam(required = false) Integer startYear,
+        @RequestParam(required = false) Integer endYear) {
+        IngestionJobResponse job = ingestionJobService.submit(startYear, endYear);
+        log.info("[HolidayController] Ingestion job {} accepted", job.jobId());
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/holidays/ingestion/jobs/" + job.jobId()))
+            .body(job);
+    }
+
+    /**
+     * 수집 작업 진행 상황 조회
+     * @param jobId 작업 ID
+     * @return 작업 상태와 (국가, 연도) 별 진행 상황
+     */
+    @Override
+    @GetMapping("/ingestion/jobs/{jobId}")
+    public ResponseEntity<IngestionJobResponse> getIngestionJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ingestionJobService.get(jobId));
+    }
+
+    /**
+     * 수집 작업 진행 이벤트 구독 (SSE)
+     * @param jobId 작업 ID
+     * @return progress 이벤트를 주기적으로 보내고, 작업이 끝나면 finished 이벤트 후 닫히는 스트림
+     */
+    @Override
+    @GetMapping(value = "/ingestion/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIngestionJob(@PathVariable String jobId) {
+        return ingestionJobService.subscribe(jobId);
     }
 
     /**
@@ -60,8 +131,8 @@ public class HolidayController implements HolidayApi{
 
     /**
      * 연도별·국가별 필터 기반 공휴일 조회
-     * @param cursor 다음 페이지의 첫번째 레코드 커서
-     * @param idAfter 다음 페이지의 첫번째 레코드 id
+     * @param cursor 이전 응답의 nextCursor 토큰
+     * @param seekDate 첫 페이지를 시작할 날짜 (date 정렬)
      * @param countryCode 국가코드
      * @param fromDate 해당 날짜 부터
      * @param toDate 해당 날짜 까지 검색
@@ -69,13 +140,16 @@ public class HolidayController implements HolidayApi{
      * @param size 페이지 크기
      * @param sortBy 정렬기준
      * @param sortDirection 정렬방향
-     * @return 페이징 된 응답
+     * @param nameLike 포함되어있는 단어
+     * @param includeTotal 전체 갯수 포함 여부 (생략 시 첫 페이지에서만 포함)
+     * @param webRequest If-None-Match 확인용 요청
+     * @return 페이징 된 응답 (데이터가 바뀌지 않았으면 304)
      */
     @Override
     @GetMapping
     public ResponseEntity<HolidayPageResponse> searchHolidays(
         @RequestParam(required = false) String cursor,
-        @RequestParam(required = false) UUID idAfter,
+        @RequestParam(required = false) LocalDate seekDate,
         @RequestParam(required = false) String countryCode,
         @RequestParam(required = false) LocalDate fromDate,
         @RequestParam(required = false) LocalDate toDate,
@@ -83,15 +157,214 @@ public class HolidayController implements HolidayApi{
         @RequestParam Integer size,
         @RequestParam String sortBy,
         @RequestParam String sortDirection,
-        @RequestParam(required = false) String nameLike) {
+        @RequestParam(required = false) String nameLike,
+        @RequestParam(required = false) Boolean includeTotal,
+        WebRequest webRequest) {
         log.info("[HolidayController] Searching holiday");
-        HolidayPageResponse response = holidayDataService.search(cursor, idAfter, countryCode,
-            fromDate, toDate, holidayType, size, sortBy, sortDirection,nameLike);
+
+        // 데이터 버전(국가 지정 시 국가 버전, 아니면 전체 버전)과 요청 파라미터로 만든 ETag 가 같으면 조회 없이 304
+        String etag = holidayDataVersions.etag(holidayDataVersions.scopeOf(countryCode),
+            "search", cursor, seekDate, countryCode, fromDate, toDate, holidayType, size, sortBy, sortDirection,
+            nameLike, includeTotal);
+        if (webRequest.checkNotModified(etag)) {
+            log.info("[HolidayController] Search not modified");
+            return null;
+        }
+
+        HolidayPageResponse response = holidayDataService.search(cursor, seekDate, countryCode,
+            fromDate, toDate, holidayType, size, sortBy, sortDirection,nameLike, includeTotal);
         log.info("[HolidayController] Searched holiday");
+        return ResponseEntity.status(HttpStatus.OK)
+            .eTag(etag)
+            .body(response);
+    }
+
+    /**
+     * 검색 결과 캐시 통계 조회
+     * @return 적중/실패/제거 횟수와 보관량
+     */
+    @Override
+    @GetMapping("/search-cache/stats")
+    public ResponseEntity<SearchCacheStatsResponse> getSearchCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(holidaySearchCache.stats());
+    }
+
+    /**
+     * 마지막 수집 실행 보고서 조회
+     * @return 재시도·건너뜀 내역과 동시 요청 한도 변화 (실행 전이면 204)
+     */
+    @Override
+    @GetMapping("/ingestion/report")
+    public ResponseEntity<IngestionReport> getLastIngestionReport() {
+        return holidayKeeperService.getLastReport()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 특정 국가·날짜가 공휴일인지 인메모리 달력 인덱스로 확인 (DB 조회 없음)
+     * @param countryCode 국가코드
+     * @param date 확인할 날짜
+     * @return 공휴일 여부
+     */
+    @Override
+    @GetMapping("/{countryCode}/check")
+    public ResponseEntity<HolidayCheckResponse> checkHoliday(
+        @PathVariable String countryCode,
+        @RequestParam LocalDate date) {
+        boolean holiday = holidayCalendarIndex.isHoliday(countryCode, date);
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(new HolidayCheckResponse(countryCode, date, holiday));
+    }
+
+    /**
+     * 여러 (국가, 날짜) 쌍의 공휴일 여부를 한 번에 확인 (JSON 배열)
+     * - 배열 전체를 역직렬화하지 않고 원소 단위로 읽으며 건수 제한과 항목 검증을 적용
+     * @param body 요청 본문
+     * @return 요청 순서와 동일한 판정 결과
+     */
+    @Override
+    @PostMapping(value = "/check-batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<HolidayCheckResponse>> checkHolidays(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(holidayCalendarIndex.checkAll(readCheckRequests(body)));
+    }
+
+    /**
+     * 여러 (국가, 날짜) 쌍의 공휴일 여부를 한 번에 확인 (NDJSON, 한 줄에 한 쌍)
+     * @param body 요청 본문
+     * @return 요청 순서와 동일한 판정 결과
+     */
+    @Override
+    @PostMapping(value = "/check-batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<HolidayCheckResponse>> checkHolidaysNdjson(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(holidayCalendarIndex.checkAll(readCheckRequests(body)));
+    }
+
+    /**
+     * 일괄 확인 요청 본문을 한 건씩 읽는 메서드 (최상위 JSON 배열이면 원소 단위, NDJSON 이면 줄 단위)
+     * - 최대 건수를 넘는 순간 나머지 본문을 읽지 않고 거절
+     * - 항목마다 countryCode, date 필수 여부를 검증하여 몇 번째 항목이 잘못되었는지 안내
+     * @param body 요청 본문
+     * @return 검증을 마친 (국가, 날짜) 목록
+     */
+    private List<HolidayCheckRequest> readCheckRequests(InputStream body) throws IOException {
+        List<HolidayCheckRequest> requests = new ArrayList<>();
+        try (MappingIterator<HolidayCheckRequest> iterator =
+                 objectMapper.readerFor(HolidayCheckRequest.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                HolidayCheckRequest request = iterator.nextValue();
+                if (requests.size() == MAX_CHECK_BATCH_SIZE) {
+                    throw new InvalidRequestException("한 번에 최대 " + MAX_CHECK_BATCH_SIZE + "건까지 확인할 수 있습니다.");
+                }
+                validateCheckRequest(requests.size(), request);
+                requests.add(request);
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("요청 본문을 해석할 수 없습니다: " + e.getOriginalMessage());
+        }
+        return requests;
+    }
+
+    private void validateCheckRequest(int index, HolidayCheckRequest request) {
+        if (request == null || request.countryCode() == null || request.countryCode().isBlank()
+            || request.date() == null) {
+            throw new InvalidRequestException((index + 1) + "번째 항목: countryCode 와 date 는 필수입니다.");
+        }
+    }
+
+    /**
+     * 여러 국가의 공휴일 교집합/합집합 조회
+     * @param countryCodes 국가코드 목록 (생략 시 전체 국가)
+     * @param fromDate 시작일
+     * @param toDate 종료일
+     * @param mode 계산 방식 (ALL, ANY, EXACTLY)
+     * @param k EXACTLY 모드에서 공휴일이어야 하는 국가 수
+     * @return 조건을 만족하는 날짜 목록
+     */
+    @Override
+    @GetMapping("/overlap")
+    public ResponseEntity<HolidayOverlapResponse> findOverlap(
+        @RequestParam(required = false) List<String> countryCodes,
+        @RequestParam LocalDate fromDate,
+        @RequestParam LocalDate toDate,
+        @RequestParam HolidayOverlapMode mode,
+        @RequestParam(required = false) Integer k) {
+        log.info("[HolidayController] Finding holiday overlap");
+        HolidayOverlapResponse response = holidayOverlapService.findOverlap(countryCodes, fromDate, toDate, mode, k);
         return ResponseEntity.status(HttpStatus.OK)
             .body(response);
     }
 
+    /**
+     * 국가별 공휴일 iCalendar 구독 피드
+     * - 데이터 버전으로 만든 ETag / Last-Modified 가 요청 헤더와 같으면 본문 없이 304 응답
+     * @param countryCode 국가코드
+     * @param holidayType 공휴일 타입
+     * @param county 지역 코드 (예: DE-BY)
+     * @return text/calendar 본문
+     */
+    @Override
+    @GetMapping("/{countryCode:[A-Za-z]+}.ics")
+    public ResponseEntity<byte[]> getIcsFeed(
+        @PathVariable String countryCode,
+        @RequestParam(required = false) String holidayType,
+        @RequestParam(required = false) String county) {
+        HolidayIcsFeed feed = holidayIcsService.getFeed(countryCode, holidayType, county);
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8))
+            .eTag(feed.etag())
+            .lastModified(feed.lastModified())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(countryCode.toUpperCase() + ".ics")
+                .build()
+                .toString())
+            .body(feed.body());
+    }
+
+    /**
+     * 필터에 해당하는 공휴일 전체를 NDJSON 또는 CSV 로 스트리밍 내보내기
+     * @param format 내보내기 형식 (NDJSON, CSV)
+     * @param countryCode 국가코드
+     * @param fromDate 해당 날짜 부터
+     * @param toDate 해당 날짜 까지 검색
+     * @param holidayType 공휴일 타입
+     * @param nameLike 포함되어있는 단어
+     * @param acceptEncoding gzip 이 포함되어 있으면 압축하여 전송
+     * @return 스트리밍 응답
+     */
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportHolidays(
+        @RequestParam(defaultValue = "NDJSON") HolidayExportFormat format,
+        @RequestParam(required = false) String countryCode,
+        @RequestParam(required = false) LocalDate fromDate,
+        @RequestParam(required = false) LocalDate toDate,
+        @RequestParam(required = false) String holidayType,
+        @RequestParam(required = false) String nameLike,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("[HolidayController] Exporting holiday");
+        Set<UUID> nameMatchIds = holidayExportService.prepare(countryCode, holidayType, nameLike);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = out -> holidayExportService.export(format, gzip, out, countryCode,
+            fromDate, toDate, holidayType, nameLike, nameMatchIds);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.parseMediaType(format.getMediaType()), StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("holidays." + format.getExtension())
+                .build()
+                .toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     /**
      * 특정 연도·국가 데이터를 재호출
      * @param countryCode 재호출할 국가코드
@@ -0,0 +1,89 @@
+package com.holidaykeeper.dto;
+
+import com.holidaykeeper.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 키셋 페이지네이션 커서
+ * - 정렬 기준, 정렬 방향, 마지막 레코드의 정렬 값과 id 를 담아 불투명한 base64url 토큰으로 주고받음
+ * - 토큰 원문 형식 : v1|sortBy|sortDirection|lastId|lastValue (lastValue 에 구분자가 있어도 되도록 마지막에 둠)
+ */
+public record HolidayCursor(
+    String sortBy,
+    String sortDirection,
+    String lastValue,
+    UUID lastId
+) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+    private static final int PARTS = 5;
+
+    /**
+     * 페이지의 마지막 레코드로 다음 페이지 커서 생성
+     * @param last 현재 페이지의 마지막 레코드
+     * @param sortBy 정렬 기준 (date 가 아니면 name)
+     * @param sortDirection 정렬 방향
+     * @return 다음 페이지 커서
+     */
+    public static HolidayCursor after(HolidayDto last, String sortBy, String sortDirection) {
+        String sortKey = sortKeyOf(sortBy);
+        String lastValue = sortKey.equals("date") ? last.date().toString() : last.name();
+        return new HolidayCursor(sortKey, directionOf(sortDirection), lastValue, last.id());
+    }
+
+    /**
+     * 커서 토큰 해석
+     * @param token 이전 응답의 nextCursor
+     * @return 커서
+     */
+    public static HolidayCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", PARTS);
+            if (parts.length != PARTS || !parts[0].equals(VERSION)) {
+                throw new InvalidRequestException("지원하지 않는 커서 형식입니다");
+            }
+            HolidayCursor cursor = new HolidayCursor(parts[1], parts[2], parts[4], UUID.fromString(parts[3]));
+            if (cursor.sortBy().equals("date")) {
+                cursor.lastDate();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다");
+        }
+    }
+
+    /**
+     * 커서 토큰 생성
+     * @return base64url 토큰
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, sortBy, sortDirection, lastId.toString(), lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 요청한 정렬 조건으로 만들어졌는지 확인
+     */
+    public boolean matches(String sortBy, String sortDirection) {
+        return this.sortBy.equals(sortKeyOf(sortBy)) && this.sortDirection.equals(directionOf(sortDirection));
+    }
+
+    public LocalDate lastDate() {
+        return LocalDate.parse(lastValue);
+    }
+
+    // 정렬 기준은 date 외에는 모두 name 으로 처리 (HolidayRepositoryImpl.buildOrderSpecifier 와 동일)
+    private static String sortKeyOf(String sortBy) {
+        return "date".equals(sortBy) ? "date" : "name";
+    }
+
+    private static String directionOf(String sortDirection) {
+        return "ASC".equals(sortDirection) ? "ASC" : "DESC";
+    }
+}
@@ -0,0 +1,15 @@
+package com.holidaykeeper.dto;
+
+import java.time.Instant;
+
+/**
+ * 공휴일 데이터 버전
+ * @param version 데이터가 변경될 때마다 1 씩 증가하는 버전
+ * @param lastModified 마지막 변경 시각 (초 단위)
+ */
+public record HolidayDataVersion(
+    long version,
+    Instant lastModified
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.holidaykeeper.dto;
+
+import java.time.LocalDate;
+
+public record HolidayDateDto(
+    String countryCode,
+    LocalDate date
+) {
+
+}
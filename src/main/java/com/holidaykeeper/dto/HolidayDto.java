@@ -1,8 +1,10 @@
 package com.holidaykeeper.dto;
 
+import com.holidaykeeper.entity.HolidayType;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public record HolidayDto(
     UUID id,
@@ -16,4 +18,23 @@ public record HolidayDto(
     Integer launchYear,
     List<String> types
 ){
+
+    /**
+     * DB 컬럼 값을 그대로 받는 생성자 (QueryDSL Projections.constructor 조회용)
+     * @param counties 콤마로 이어서 저장된 counties
+     * @param typeMask 공휴일 타입 비트마스크
+     */
+    public HolidayDto(UUID id, LocalDate date, String localName, String name, String countryCode,
+        boolean fixed, boolean global, String counties, Integer launchYear, int typeMask) {
+        this(id, date, localName, name, countryCode, fixed, global, splitCounties(counties), launchYear,
+            HolidayType.toNames(typeMask));
+    }
+
+    private static List<String> splitCounties(String counties) {
+        return counties == null || counties.isBlank()
+            ? List.of()
+            : Stream.of(counties.split(","))
+            .map(String::trim)
+            .toList();
+    }
 }
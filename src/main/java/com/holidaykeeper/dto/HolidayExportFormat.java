@@ -0,0 +1,27 @@
+package com.holidaykeeper.dto;
+
+/**
+ * 공휴일 대량 내보내기 형식
+ * - NDJSON : 한 줄에 HolidayDto JSON 하나
+ * - CSV : 헤더 한 줄 + 레코드 한 줄씩 (counties, types 는 ; 로 구분)
+ */
+public enum HolidayExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    HolidayExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
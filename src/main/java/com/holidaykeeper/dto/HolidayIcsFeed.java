@@ -0,0 +1,17 @@
+package com.holidaykeeper.dto;
+
+import java.time.Instant;
+
+/**
+ * 미리 만들어 둔 iCalendar 피드
+ * @param body text/calendar 본문 (UTF-8)
+ * @param etag 데이터 버전으로 만든 ETag
+ * @param lastModified 데이터 마지막 변경 시각
+ */
+public record HolidayIcsFeed(
+    byte[] body,
+    String etag,
+    Instant lastModified
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.holidaykeeper.dto;
+
+import java.util.UUID;
+
+public record HolidayNameDto(
+    UUID id,
+    String countryCode,
+    String name,
+    String localName
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.holidaykeeper.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record HolidayOverlapDay(
+    LocalDate date,
+    List<String> countryCodes
+) {
+
+}
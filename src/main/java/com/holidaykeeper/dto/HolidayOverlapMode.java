@@ -0,0 +1,13 @@
+package com.holidaykeeper.dto;
+
+/**
+ * 여러 국가 공휴일 교집합/합집합 계산 방식
+ * - ALL : 모든 국가가 공휴일인 날
+ * - ANY : 하나 이상의 국가가 공휴일인 날
+ * - EXACTLY : 정확히 k 개 국가가 공휴일인 날
+ */
+public enum HolidayOverlapMode {
+    ALL,
+    ANY,
+    EXACTLY
+}
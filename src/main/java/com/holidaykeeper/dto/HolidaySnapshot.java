@@ -0,0 +1,75 @@
+package com.holidaykeeper.dto;
+
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공휴일 데이터 스냅샷 (HolidaySnapshotCodec 으로 파일에 기록·복원)
+ * @param createdAt 스냅샷 생성 시각 (epoch millis)
+ * @param countries 국가별 공휴일·동기화 상태
+ */
+public record HolidaySnapshot(
+    long createdAt,
+    List<CountrySection> countries
+) {
+
+    /**
+     * 공휴일 수
+     * @return 모든 국가의 공휴일 수 합
+     */
+    public int holidayCount() {
+        return countries.stream().mapToInt(country -> country.holidays().size()).sum();
+    }
+
+    /**
+     * 모든 국가의 동기화 상태가 있는 연도 (오름차순)
+     * @return 모든 국가에 대해 적재가 끝난 연도 목록 (국가가 없으면 빈 목록)
+     */
+    public List<Integer> completeYears() {
+        Map<Integer, Integer> countriesByYear = new HashMap<>();
+        for (CountrySection country : countries) {
+            country.syncStates().forEach(state -> countriesByYear.merge(state.year(), 1, Integer::sum));
+        }
+        return countriesByYear.entrySet().stream()
+            .filter(entry -> entry.getValue() == countries.size())
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * 국가 하나의 스냅샷
+     * @param countryCode 국가 코드
+     * @param name 국가 이름
+     * @param holidays 공휴일 (날짜 순)
+     * @param syncStates 연도별 마지막 동기화 상태 (다음 조건부 요청용)
+     */
+    public record CountrySection(
+        String countryCode,
+        String name,
+        List<HolidaySaveRequest> holidays,
+        List<SyncState> syncStates
+    ) {
+
+    }
+
+    /**
+     * 국가·연도 하나의 마지막 동기화 상태
+     * @param year 연도
+     * @param contentHash 공휴일 내용 해시
+     * @param etag 외부 API ETag (없으면 null)
+     * @param lastModified 외부 API Last-Modified (없으면 null)
+     * @param payloadHash 응답 본문 원문 해시 (없으면 null)
+     */
+    public record SyncState(
+        int year,
+        String contentHash,
+        String etag,
+        String lastModified,
+        String payloadHash
+    ) {
+
+    }
+}
@@ -0,0 +1,34 @@
+package com.holidaykeeper.dto;
+
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import com.holidaykeeper.entity.Country;
+import java.util.List;
+
+/**
+ * 수집 단계에서 저장 단계로 넘기는 국가·연도 단위 쓰기 요청
+ * @param country 국가
+ * @param year 연도
+ * @param holidays 외부 API 공휴일 목록 (null 이면 검증값만 갱신)
+ * @param validators 응답 검증값 (다음 조건부 요청용)
+ */
+public record HolidaySyncCommand(
+    Country country,
+    int year,
+    List<HolidaySaveRequest> holidays,
+    HolidayUpstreamValidators validators
+) {
+
+    /**
+     * 본문은 같고 ETag / Last-Modified 만 바뀐 응답 (공휴일은 쓰지 않음)
+     */
+    public static HolidaySyncCommand validatorsUpdate(Country country, int year, HolidayUpstreamValidators validators) {
+        return new HolidaySyncCommand(country, year, null, validators);
+    }
+
+    /**
+     * 검증값만 갱신하는 요청인지 여부
+     */
+    public boolean validatorsOnly() {
+        return holidays == null;
+    }
+}
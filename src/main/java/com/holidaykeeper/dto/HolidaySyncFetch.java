@@ -0,0 +1,30 @@
+package com.holidaykeeper.dto;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 수집 작업 청크에서 처리 중인 (국가, 연도) 하나의 비동기 수집 결과
+ * @param key 동기화 단위 (국가, 연도)
+ * @param command 쓰기 요청 (쓸 내용이 없으면 null 로 완료, 재시도 후에도 실패하면 예외로 완료)
+ */
+public record HolidaySyncFetch(
+    HolidaySyncKey key,
+    CompletableFuture<HolidaySyncCommand> command
+) {
+
+    /**
+     * 수집이 끝날 때까지 대기하여 쓰기 요청을 반환 (실패했으면 원래 예외를 그대로 던짐)
+     * @return 쓰기 요청 (쓸 내용이 없으면 null)
+     */
+    public HolidaySyncCommand join() {
+        try {
+            return command.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.holidaykeeper.dto;
+
+/**
+ * 동기화 단위 (국가, 연도)
+ * @param countryCode 국가 코드
+ * @param year 연도
+ */
+public record HolidaySyncKey(
+    String countryCode,
+    int year
+) {
+
+}
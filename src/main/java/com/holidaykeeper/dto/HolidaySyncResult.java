@@ -0,0 +1,27 @@
+package com.holidaykeeper.dto;
+
+/**
+ * 국가·연도 단위 동기화 결과
+ * @param inserted 추가된 레코드 수
+ * @param updated 수정된 레코드 수
+ * @param deleted 삭제된 레코드 수
+ * @param unchanged 내용 해시가 같아 쓰기를 생략했는지 여부
+ */
+public record HolidaySyncResult(
+    int inserted,
+    int updated,
+    int deleted,
+    boolean unchanged
+) {
+
+    public static HolidaySyncResult skipped() {
+        return new HolidaySyncResult(0, 0, 0, true);
+    }
+
+    /**
+     * 실제로 쓰기가 일어난 레코드 수
+     */
+    public int written() {
+        return inserted + updated + deleted;
+    }
+}
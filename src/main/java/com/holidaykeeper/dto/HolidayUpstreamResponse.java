@@ -0,0 +1,20 @@
+package com.holidaykeeper.dto;
+
+/**
+ * 외부 공휴일 API 응답 (본문은 파싱 전 원문)
+ * @param notModified 304 Not Modified 여부
+ * @param body 응답 본문 (304 이면 비어 있음)
+ * @param etag 응답 ETag 헤더
+ * @param lastModified 응답 Last-Modified 헤더
+ */
+public record HolidayUpstreamResponse(
+    boolean notModified,
+    byte[] body,
+    String etag,
+    String lastModified
+) {
+
+    public static HolidayUpstreamResponse notModifiedResponse() {
+        return new HolidayUpstreamResponse(true, new byte[0], null, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.holidaykeeper.dto;
+
+/**
+ * 외부 API 응답 검증값 (국가·연도별로 저장하여 다음 호출의 조건부 요청에 사용)
+ * @param etag 응답 ETag 헤더
+ * @param lastModified 응답 Last-Modified 헤더
+ * @param payloadHash 응답 본문 원문의 SHA-256
+ */
+public record HolidayUpstreamValidators(
+    String etag,
+    String lastModified,
+    String payloadHash
+) {
+
+}
@@ -0,0 +1,8 @@
+package com.holidaykeeper.dto;
+
+public record HolidayYearDto(
+    String countryCode,
+    int year
+) {
+
+}
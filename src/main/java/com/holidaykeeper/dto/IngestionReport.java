@@ -0,0 +1,67 @@
+package com.holidaykeeper.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 외부 API 수집 실행 한 번의 결과 보고서
+ * @param startedAt 시작 시각
+ * @param finishedAt 종료 시각 (실행 중이면 null)
+ * @param tasks 처리 대상 (국가, 연도) 수
+ * @param succeeded 성공한 (국가, 연도) 수
+ * @param failed 재시도 후에도 실패하여 건너뛴 (국가, 연도) 수
+ * @param saved 추가·수정된 공휴일 수
+ * @param requests 외부 API 요청 수 (재시도 포함)
+ * @param retries 재시도 수
+ * @param throttled 과부하 신호(429/5xx/연결 오류/지연)를 받은 요청 수
+ * @param retryBudgetExhausted 재시도 예산이 바닥나 재시도하지 못한 경우가 있었는지 여부
+ * @param initialConcurrency 시작 동시 요청 한도
+ * @param peakConcurrency 실행 중 가장 높았던 동시 요청 한도
+ * @param finalConcurrency 종료 시점의 동시 요청 한도
+ * @param queueDepth 수집은 끝났지만 아직 저장되지 않은 (국가, 연도) 수
+ * @param peakQueueDepth 실행 중 가장 많았던 저장 대기 수
+ * @param writeBatches 저장 트랜잭션 수
+ * @param writeMillis 저장 단계에서 쓴 시간 (밀리초)
+ * @param tasksPerSecond 초당 처리한 (국가, 연도) 수
+ * @param retried 재시도 후 성공한 (국가, 연도)
+ * @param failures 건너뛴 (국가, 연도) 와 사유
+ */
+public record IngestionReport(
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    int tasks,
+    int succeeded,
+    int failed,
+    int saved,
+    long requests,
+    long retries,
+    long throttled,
+    boolean retryBudgetExhausted,
+    int initialConcurrency,
+    int peakConcurrency,
+    int finalConcurrency,
+    long queueDepth,
+    long peakQueueDepth,
+    long writeBatches,
+    long writeMillis,
+    double tasksPerSecond,
+    List<TaskNote> retried,
+    List<TaskNote> failures
+) {
+
+    /**
+     * (국가, 연도) 단위 기록
+     * @param countryCode 국가 코드
+     * @param year 연도
+     * @param attempts 시도 횟수
+     * @param reason 마지막 오류 내용
+     */
+    public record TaskNote(
+        String countryCode,
+        int year,
+        int attempts,
+        String reason
+    ) {
+
+    }
+}
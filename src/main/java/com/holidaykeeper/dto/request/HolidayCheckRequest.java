@@ -0,0 +1,10 @@
+package com.holidaykeeper.dto.request;
+
+import java.time.LocalDate;
+
+public record HolidayCheckRequest(
+    String countryCode,
+    LocalDate date
+) {
+
+}
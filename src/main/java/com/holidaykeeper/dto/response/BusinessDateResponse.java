@@ -0,0 +1,12 @@
+package com.holidaykeeper.dto.response;
+
+import java.time.LocalDate;
+
+public record BusinessDateResponse(
+    String countryCode,
+    LocalDate baseDate,
+    int days,
+    LocalDate result
+) {
+
+}
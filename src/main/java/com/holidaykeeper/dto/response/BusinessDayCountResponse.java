@@ -0,0 +1,12 @@
+package com.holidaykeeper.dto.response;
+
+import java.time.LocalDate;
+
+public record BusinessDayCountResponse(
+    String countryCode,
+    LocalDate fromDate,
+    LocalDate toDate,
+    long businessDays
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.holidaykeeper.dto.response;
+
+import java.time.LocalDate;
+
+public record HolidayCheckResponse(
+    String countryCode,
+    LocalDate date,
+    boolean holiday
+) {
+
+}
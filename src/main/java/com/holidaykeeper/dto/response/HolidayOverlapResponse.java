@@ -0,0 +1,17 @@
+package com.holidaykeeper.dto.response;
+
+import com.holidaykeeper.dto.HolidayOverlapDay;
+import com.holidaykeeper.dto.HolidayOverlapMode;
+import java.time.LocalDate;
+import java.util.List;
+
+public record HolidayOverlapResponse(
+    HolidayOverlapMode mode,
+    Integer k,
+    List<String> countryCodes,
+    LocalDate fromDate,
+    LocalDate toDate,
+    List<HolidayOverlapDay> days
+) {
+
+}
@@ -0,0 +1,75 @@
+package com.holidaykeeper.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 수집 작업 상태
+ * @param jobId 작업 ID
+ * @param status 작업 상태
+ * @param startYear 시작 연도
+ * @param endYear 종료 연도
+ * @param submittedAt 접수 시각
+ * @param startedAt 시작 시각 (대기 중이면 null)
+ * @param finishedAt 종료 시각 (끝나지 않았으면 null)
+ * @param total 처리 대상 (국가, 연도) 수
+ * @param completed 처리가 끝난 (국가, 연도) 수 (성공 + 실패)
+ * @param succeeded 성공한 (국가, 연도) 수
+ * @param failed 건너뛴 (국가, 연도) 수
+ * @param saved 추가·수정된 공휴일 수
+ * @param retries 외부 API 재시도 수
+ * @param percent 진행률 (0 ~ 100)
+ * @param tasksPerSecond 초당 처리한 (국가, 연도) 수
+ * @param etaSeconds 남은 예상 시간 (초, 실행 중이 아니거나 아직 추정할 수 없으면 null)
+ * @param message 종료 메세지 (끝나지 않았으면 null)
+ * @param tasks (국가, 연도) 별 진행 상황 (진행 이벤트에는 포함하지 않음)
+ */
+public record IngestionJobResponse(
+    String jobId,
+    Status status,
+    int startYear,
+    int endYear,
+    LocalDateTime submittedAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    int total,
+    int completed,
+    int succeeded,
+    int failed,
+    int saved,
+    long retries,
+    double percent,
+    double tasksPerSecond,
+    Long etaSeconds,
+    String message,
+    List<TaskProgress> tasks
+) {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean finished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    public enum TaskStatus {
+        PENDING, IN_PROGRESS, SUCCEEDED, FAILED
+    }
+
+    /**
+     * (국가, 연도) 단위 진행 상황
+     * @param countryCode 국가 코드
+     * @param year 연도
+     * @param status 진행 상태
+     * @param attempts 외부 API 시도 횟수
+     */
+    public record TaskProgress(
+        String countryCode,
+        int year,
+        TaskStatus status,
+        int attempts
+    ) {
+
+    }
+}
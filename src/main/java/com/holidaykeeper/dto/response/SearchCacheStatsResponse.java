@@ -0,0 +1,14 @@
+package com.holidaykeeper.dto.response;
+
+public record SearchCacheStatsResponse(
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount,
+    long evictionWeight,
+    long estimatedSize,
+    long weightedSize,
+    long maximumWeight
+) {
+
+}
@@ -9,9 +9,12 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -52,8 +55,15 @@ public class Holiday {
     @Column(name = "launch_year")
     private Integer launchYear;
 
-    @Column(name = "types")
-    private String types;
+    @Column(name = "type_mask")
+    private int typeMask;
+
+    // nameLike 검색용 정규화 값 (이름 색인과 같은 규칙)
+    @Column(name = "name_search")
+    private String nameSearch;
+
+    @Column(name = "local_name_search")
+    private String localNameSearch;
 
     public Holiday(LocalDate date, String localName, String name, Country country, boolean fixed,
         boolean global, List<String> counties, Integer launchYear, List<String> types) {
@@ -65,7 +75,44 @@ public class Holiday {
         this.global = global;
         this.counties = counties == null || counties.isEmpty() ? null : String.join(",", counties) ;
         this.launchYear = launchYear;
-        this.types = types == null || types.isEmpty() ? null : String.join(",", types) ;
+        this.typeMask = HolidayType.toMask(types);
+        this.nameSearch = normalizeName(name);
+        this.localNameSearch = normalizeName(localName);
+    }
+
+    /**
+     * 이름 검색용 정규화 (NFKC + 소문자 + 앞뒤 공백 제거)
+     * - 저장 컬럼, 이름 색인, 검색어가 모두 같은 규칙을 써야 색인 경로와 LIKE 경로의 결과가 같음
+     * @param text 공휴일 이름 또는 검색어
+     * @return 정규화된 문자열 (null 이면 빈 문자열)
+     */
+    public static String normalizeName(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).strip();
+    }
+
+    /**
+     * 자연키(국가, 날짜, 이름)가 같은 공휴일의 나머지 내용을 반영하는 메서드
+     * @param source 외부 API에서 새로 받은 공휴일
+     * @return 변경된 내용이 있으면 true
+     */
+    public boolean updateContent(Holiday source) {
+        boolean changed = !Objects.equals(localName, source.localName)
+            || fixed != source.fixed
+            || global != source.global
+            || !Objects.equals(counties, source.counties)
+            || !Objects.equals(launchYear, source.launchYear)
+            || typeMask != source.typeMask;
+
+        if (changed) {
+            this.localName = source.localName;
+            this.localNameSearch = source.localNameSearch;
+            this.fixed = source.fixed;
+            this.global = source.global;
+            this.counties = source.counties;
+            this.launchYear = source.launchYear;
+            this.typeMask = source.typeMask;
+        }
+        return changed;
     }
 
     @Override
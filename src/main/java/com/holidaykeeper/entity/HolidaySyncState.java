@@ -0,0 +1,84 @@
+package com.holidaykeeper.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 국가·연도별 마지막 동기화 상태
+ * - contentHash 가 같으면 외부 API 데이터가 변하지 않은 것으로 보고 쓰기를 생략
+ * - upstreamEtag / upstreamLastModified 는 다음 호출의 조건부 요청(If-None-Match, If-Modified-Since)에 사용
+ * - payloadHash 는 응답 본문 원문의 해시 (같으면 파싱도 생략)
+ */
+@Entity
+@Table(name="tbl_holiday_sync_states")
+@Getter
+@NoArgsConstructor
+public class HolidaySyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="country_id")
+    private Country country;
+
+    @Column(name = "holiday_year")
+    private int holidayYear;
+
+    @Column(name = "content_hash")
+    private String contentHash;
+
+    @Column(name = "upstream_etag")
+    private String upstreamEtag;
+
+    @Column(name = "upstream_last_modified")
+    private String upstreamLastModified;
+
+    @Column(name = "payload_hash")
+    private String payloadHash;
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    public HolidaySyncState(Country country, int holidayYear, String contentHash) {
+        this.country = country;
+        this.holidayYear = holidayYear;
+        this.contentHash = contentHash;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    public void updateUpstream(String upstreamEtag, String upstreamLastModified, String payloadHash) {
+        this.upstreamEtag = upstreamEtag;
+        this.upstreamLastModified = upstreamLastModified;
+        this.payloadHash = payloadHash;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String toString() {
+        return "HolidaySyncState{" +
+            "holidayYear=" + holidayYear +
+            ", contentHash='" + contentHash + '\'' +
+            ", upstreamEtag='" + upstreamEtag + '\'' +
+            ", syncedAt=" + syncedAt +
+            '}';
+    }
+}
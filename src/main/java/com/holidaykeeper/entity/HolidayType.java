@@ -0,0 +1,99 @@
+package com.holidaykeeper.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Nager.Date 공휴일 타입과 tbl_holidays.type_mask 비트 매핑
+ */
+public enum HolidayType {
+    PUBLIC("Public"),
+    BANK("Bank"),
+    SCHOOL("School"),
+    AUTHORITIES("Authorities"),
+    OPTIONAL("Optional"),
+    OBSERVANCE("Observance");
+
+    // 타입 6개로 만들 수 있는 마스크 값의 범위 (0 ~ 63)
+    private static final int MASK_LIMIT = 1 << values().length;
+
+    private final String apiName;
+
+    HolidayType(String apiName) {
+        this.apiName = apiName;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 외부 API 타입 이름으로 enum 조회 (대소문자 무시)
+     * @param name 타입 이름
+     * @return 공휴일 타입 (알 수 없는 타입이면 빈 값)
+     */
+    public static Optional<HolidayType> find(String name) {
+        for (HolidayType type : values()) {
+            if (type.apiName.equalsIgnoreCase(name)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 타입 이름 목록을 비트마스크로 변환 (알 수 없는 타입은 무시)
+     * @param names 타입 이름 목록
+     * @return 비트마스크
+     */
+    public static int toMask(Collection<String> names) {
+        if (names == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (String name : names) {
+            for (HolidayType type : values()) {
+                if (type.apiName.equalsIgnoreCase(name)) {
+                    mask |= type.bit();
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 타입 이름 목록으로 변환
+     * @param mask 비트마스크
+     * @return 타입 이름 목록 (enum 선언 순서)
+     */
+    public static List<String> toNames(int mask) {
+        List<String> names = new ArrayList<>(Integer.bitCount(mask));
+        for (HolidayType type : values()) {
+            if ((mask & type.bit()) != 0) {
+                names.add(type.apiName);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 해당 타입 비트를 포함하는 모든 마스크 값
+     * - type_mask IN (...) 조건으로 쓰면 DB 별 비트 연산 함수 없이 값 비교만으로 거를 수 있음
+     * @return 마스크 값 목록
+     */
+    public List<Integer> masksContaining() {
+        List<Integer> masks = new ArrayList<>(MASK_LIMIT / 2);
+        for (int mask = 0; mask < MASK_LIMIT; mask++) {
+            if ((mask & bit()) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
+}
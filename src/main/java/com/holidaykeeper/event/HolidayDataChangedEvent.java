@@ -0,0 +1,23 @@
+package com.holidaykeeper.event;
+
+/**
+ * 공휴일 데이터가 변경(저장/삭제)되었음을 알리는 이벤트
+ * - HolidayDataService 의 쓰기 메서드와 국가 추가(CountryInitializer) 에서 발행
+ * - 인메모리 인덱스 등은 커밋 이후 이 이벤트를 받아 해당 국가만 재구성
+ * - 리스너는 색인 재구성 → 캐시 무효화 → 버전 증가 순으로 실행
+ *   (캐시를 먼저 비우면 재구성 전 색인으로 만든 결과가 새 버전 ETag 로 다시 캐시될 수 있음)
+ * @param countryCode 변경된 국가코드
+ */
+public record HolidayDataChangedEvent(
+    String countryCode
+) {
+
+    // 이름 색인, 달력 색인 재구성
+    public static final int INDEX_ORDER = 0;
+
+    // 검색 페이지, 건수 캐시 무효화
+    public static final int CACHE_ORDER = 100;
+
+    // 데이터 버전(ETag) 증가
+    public static final int VERSION_ORDER = 200;
+}
@@ -7,7 +7,13 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
 
     // CountryCode 관련 에러코드
-    COUNTRY_CODE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재 하지않는 국가코드입니다.");
+    COUNTRY_CODE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재 하지않는 국가코드입니다."),
+
+    // 수집 작업 관련 에러코드
+    INGESTION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 수집 작업입니다."),
+
+    // 요청 값 관련 에러코드
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.");
 
 
 
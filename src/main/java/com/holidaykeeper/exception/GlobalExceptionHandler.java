@@ -31,6 +31,20 @@ public class GlobalExceptionHandler {
             .body(new ErrorResponse(ErrorCode.COUNTRY_CODE_NOT_FOUND.name(),ErrorCode.COUNTRY_CODE_NOT_FOUND.getMessage(), LocalDateTime.now()));
     }
 
+    @ExceptionHandler(IngestionJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> ingestionJobNotFoundException(IngestionJobNotFoundException ex) {
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .body(new ErrorResponse(ErrorCode.INGESTION_JOB_NOT_FOUND.name(),ErrorCode.INGESTION_JOB_NOT_FOUND.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> invalidRequestException(InvalidRequestException ex) {
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(new ErrorResponse(ErrorCode.INVALID_REQUEST.name(), ex.getMessage(), LocalDateTime.now()));
+    }
+
 
 
 }
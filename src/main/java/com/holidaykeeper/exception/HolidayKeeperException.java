@@ -16,4 +16,10 @@ public class HolidayKeeperException extends RuntimeException {
         this.timestamp = LocalDateTime.now();
         this.errorCode = errorCode;
     }
+
+    public HolidayKeeperException(ErrorCode errorCode, String message) {
+        super(message);
+        this.timestamp = LocalDateTime.now();
+        this.errorCode = errorCode;
+    }
 }
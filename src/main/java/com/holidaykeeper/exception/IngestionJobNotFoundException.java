@@ -0,0 +1,9 @@
+package com.holidaykeeper.exception;
+
+public class IngestionJobNotFoundException extends HolidayKeeperException {
+
+    public IngestionJobNotFoundException() {
+        super(ErrorCode.INGESTION_JOB_NOT_FOUND);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.holidaykeeper.exception;
+
+public class InvalidRequestException extends HolidayKeeperException {
+
+    public InvalidRequestException(String message) {
+        super(ErrorCode.INVALID_REQUEST, message);
+    }
+
+}
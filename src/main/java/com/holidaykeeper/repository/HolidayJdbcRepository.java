@@ -0,0 +1,101 @@
+package com.holidaykeeper.repository;
+
+import com.holidaykeeper.config.HolidayWriteProperties;
+import com.holidaykeeper.entity.Holiday;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 영속성 컨텍스트를 거치지 않고 JDBC 배치로 공휴일을 대량 저장하는 리포지토리
+ * - (country_id, date) 순으로 정렬한 뒤 multi-row INSERT 문을 JDBC 배치로 전송
+ * - 엔티티를 1차 캐시에 쌓지 않으므로 대량 적재 시에도 메모리가 늘지 않음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class HolidayJdbcRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO tbl_holidays "
+        + "(id, date, local_name, name, country_id, fixed, global, counties, launch_year, type_mask, "
+        + "name_search, local_name_search) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HolidayWriteProperties writeProperties;
+
+    /**
+     * 공휴일 리스트를 JDBC 배치로 저장하는 메서드 (호출한 쪽의 트랜잭션에 참여)
+     * @param holidays 저장할 공휴일 리스트
+     * @return 저장한 공휴일 갯수
+     */
+    public int insertAll(List<Holiday> holidays) {
+        if (holidays.isEmpty()) {
+            return 0;
+        }
+
+        // 인덱스 순서대로 삽입되도록 (국가, 날짜) 순 정렬
+        List<Holiday> ordered = new ArrayList<>(holidays);
+        ordered.sort(Comparator.comparing((Holiday holiday) -> holiday.getCountry().getId())
+            .thenComparing(Holiday::getDate));
+
+        int rowsPerStatement = writeProperties.rowsPerStatement();
+        int fullRows = ordered.size() / rowsPerStatement * rowsPerStatement;
+
+        // rowsPerStatement 행씩 묶은 INSERT 문을 batchSize 개씩 전송
+        if (fullRows > 0) {
+            List<List<Holiday>> groups = new ArrayList<>();
+            for (int i = 0; i < fullRows; i += rowsPerStatement) {
+                groups.add(ordered.subList(i, i + rowsPerStatement));
+            }
+            jdbcTemplate.batchUpdate(insertSql(rowsPerStatement), groups, writeProperties.batchSize(),
+                this::bindRows);
+        }
+
+        // 나머지 행은 한 문장으로 저장
+        if (fullRows < ordered.size()) {
+            List<Holiday> rest = ordered.subList(fullRows, ordered.size());
+            jdbcTemplate.update(insertSql(rest.size()), ps -> bindRows(ps, rest));
+        }
+
+        log.debug("[HolidayJdbcRepository] Inserted {} holidays", ordered.size());
+        return ordered.size();
+    }
+
+    private String insertSql(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER));
+    }
+
+    private void bindRows(PreparedStatement ps, List<Holiday> rows) throws SQLException {
+        for (int row = 0; row < rows.size(); row++) {
+            Holiday holiday = rows.get(row);
+            int offset = row * COLUMN_COUNT;
+            ps.setObject(offset + 1, UUID.randomUUID());
+            ps.setObject(offset + 2, holiday.getDate());
+            ps.setString(offset + 3, holiday.getLocalName());
+            ps.setString(offset + 4, holiday.getName());
+            ps.setObject(offset + 5, holiday.getCountry().getId());
+            ps.setBoolean(offset + 6, holiday.isFixed());
+            ps.setBoolean(offset + 7, holiday.isGlobal());
+            ps.setString(offset + 8, holiday.getCounties());
+            if (holiday.getLaunchYear() == null) {
+                ps.setNull(offset + 9, Types.INTEGER);
+            } else {
+                ps.setInt(offset + 9, holiday.getLaunchYear());
+            }
+            ps.setInt(offset + 10, holiday.getTypeMask());
+            ps.setString(offset + 11, holiday.getNameSearch());
+            ps.setString(offset + 12, holiday.getLocalNameSearch());
+        }
+    }
+}
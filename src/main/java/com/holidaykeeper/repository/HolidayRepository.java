@@ -1,11 +1,43 @@
 package com.holidaykeeper.repository;
 
+import com.holidaykeeper.dto.HolidayDateDto;
+import com.holidaykeeper.dto.HolidayNameDto;
 import com.holidaykeeper.entity.Holiday;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface HolidayRepository extends JpaRepository<Holiday, UUID> {
 
-    List<Holiday> findAllByCountry_Id(UUID id);
+    List<Holiday> findAllByCountry_IdAndDateBetween(UUID countryId, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * 국가·기간에 해당하는 공휴일을 DELETE 한 문장으로 삭제
+     * (country_id, date) 범위 탐색은 uq_holidays_natural_key 인덱스의 선두 컬럼을 사용
+     * @return 삭제된 레코드 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Holiday h where h.country.id = :countryId and h.date between :fromDate and :toDate")
+    int deleteByCountryIdAndDateBetween(@Param("countryId") UUID countryId,
+        @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("select new com.holidaykeeper.dto.HolidayDateDto(c.countryCode, h.date) "
+        + "from Holiday h join h.country c")
+    List<HolidayDateDto> findAllHolidayDates();
+
+    @Query("select new com.holidaykeeper.dto.HolidayDateDto(c.countryCode, h.date) "
+        + "from Holiday h join h.country c where c.countryCode = :countryCode")
+    List<HolidayDateDto> findHolidayDatesByCountryCode(@Param("countryCode") String countryCode);
+
+    @Query("select new com.holidaykeeper.dto.HolidayNameDto(h.id, c.countryCode, h.name, h.localName) "
+        + "from Holiday h join h.country c")
+    List<HolidayNameDto> findAllHolidayNames();
+
+    @Query("select new com.holidaykeeper.dto.HolidayNameDto(h.id, c.countryCode, h.name, h.localName) "
+        + "from Holiday h join h.country c where c.countryCode = :countryCode")
+    List<HolidayNameDto> findHolidayNamesByCountryCode(@Param("countryCode") String countryCode);
 }
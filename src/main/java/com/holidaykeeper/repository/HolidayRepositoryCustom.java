@@ -1,14 +1,17 @@
 package com.holidaykeeper.repository;
 
-import com.holidaykeeper.entity.Holiday;
+import com.holidaykeeper.dto.HolidayCursor;
+import com.holidaykeeper.dto.HolidayDto;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface HolidayRepositoryCustom {
-    List<Holiday> findHolidaysWithCursor(
-        String cursor,
-        UUID idAfter,
+    List<HolidayDto> findHolidayDtosWithCursor(
+        HolidayCursor cursor,
+        LocalDate seekDate,
         Integer size,
         String sortBy,
         String sortDirection,
@@ -16,9 +19,16 @@ public interface HolidayRepositoryCustom {
         LocalDate fromDate,
         LocalDate toDate,
         String holidayType,
-        String nameLike
-        );
+        String nameLike,
+        Collection<UUID> nameMatchIds
+    );
 
-    Long countHolidays(String countryCode, LocalDate fromDate, LocalDate toDate, String holidayType, String nameLike);
+    Long countHolidays(String countryCode, LocalDate fromDate, LocalDate toDate, String holidayType, String nameLike,
+        Collection<UUID> nameMatchIds);
+
+    List<HolidayDto> findHolidayDtosByCountry(String countryCode, String holidayType);
+
+    Stream<HolidayDto> streamHolidayDtos(String countryCode, LocalDate fromDate, LocalDate toDate, String holidayType,
+        String nameLike, Collection<UUID> nameMatchIds, int fetchSize);
 
 }
@@ -1,20 +1,28 @@
 package com.holidaykeeper.repository;
 
+import com.holidaykeeper.dto.HolidayCursor;
+import com.holidaykeeper.dto.HolidayDto;
 import com.holidaykeeper.entity.Holiday;
+import com.holidaykeeper.entity.HolidayType;
+import com.holidaykeeper.entity.QCountry;
 import com.holidaykeeper.entity.QHoliday;
+import com.holidaykeeper.exception.InvalidRequestException;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cglib.core.Local;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -23,15 +31,20 @@ import org.springframework.stereotype.Repository;
 public class HolidayRepositoryImpl implements HolidayRepositoryCustom{
 
 
+    private static final char LIKE_ESCAPE = '\\';
+
     private final JPAQueryFactory jpaQueryFactory;
     private final QHoliday holiday = QHoliday.holiday;
+    private final QCountry country = QCountry.country;
 
 
     /**
-     * 커서 페이지네이션을 통해 검색된 공휴일 리스트를 반환하는 메서드
-     * @param cursor 커서
-     * @param idAfter 다음 페이지 첫번째 항목의 UUID
-     * @param size 한 페이지가 가지는 user의 수
+     * 커서 페이지네이션 검색 결과를 엔티티 대신 HolidayDto 로 바로 조회하는 메서드
+     * - country 를 명시적으로 join 하여 국가 코드를 한 번에 조회 (LAZY 프록시 초기화 없음)
+     * - 엔티티를 영속성 컨텍스트에 올리지 않으므로 dirty checking 대상이 아님
+     * @param cursor 이전 페이지 마지막 레코드 커서
+     * @param seekDate 첫 페이지를 시작할 날짜 (date 정렬일 때 중간부터 조회)
+     * @param size 조회할 레코드 수
      * @param sortBy 정렬자
      * @param sortDirection 정렬 방향
      * @param countryCode 국가 코드
@@ -39,68 +52,150 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom{
      * @param toDate (~까지)
      * @param holidayType 공휴일 타입
      * @param nameLike 해당 단어가 포함된 공휴일 검색
-     * @return 페이지네이션으로 검색된 공휴일 리스트
+     * @param nameMatchIds 이름 색인으로 미리 찾은 nameLike 일치 id (null 이면 LIKE 조건 사용)
+     * @return 페이지네이션으로 검색된 공휴일 DTO 리스트
      */
     @Override
-    public List<Holiday> findHolidaysWithCursor(String cursor, UUID idAfter, Integer size,
+    public List<HolidayDto> findHolidayDtosWithCursor(HolidayCursor cursor, LocalDate seekDate, Integer size,
         String sortBy, String sortDirection, String countryCode, LocalDate fromDate,
-        LocalDate toDate, String holidayType, String nameLike) {
+        LocalDate toDate, String holidayType, String nameLike, Collection<UUID> nameMatchIds) {
 
-        log.info("[HolidayRepositoryImpl] Searching holidays");
-        OrderSpecifier<?> tieBreakerOrder = holiday.id.asc(); // 이름 또는 기간이 동일하여 정렬순서가 정해지지 않을때를 대비해서 이름또는 기간이 동일할때는 id 오름차순으로 레코드를 보여줌 (tie-breaker)
+        log.info("[HolidayRepositoryImpl] Searching holiday dtos");
         Order order = sortDirection.equals("ASC") ? Order.ASC : Order.DESC;
-        List<Holiday> result = jpaQueryFactory.selectFrom(holiday)
+        OrderSpecifier<?> tieBreakerOrder = new OrderSpecifier<>(order, holiday.id);
+        List<HolidayDto> result = jpaQueryFactory
+            .select(holidayDtoProjection())
+            .from(holiday)
+            .join(holiday.country, country)
             .where(
-                buildCursorCondition(cursor, idAfter, order, sortBy),
-                countryCodeCondition(countryCode),
+                buildCursorCondition(cursor, seekDate, order, sortBy),
+                countryCodeCondition(country, countryCode),
                 dateCondition(fromDate,toDate),
-                nameLikeCondition(nameLike),
+                nameLikeCondition(nameLike, nameMatchIds),
                 holidayTypeCondition(holidayType)
             )
             .orderBy(buildOrderSpecifier(sortBy, order),tieBreakerOrder)
             .limit(size)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
             .fetch();
 
-        log.info("[HolidayRepositoryImpl] Searched holidays");
+        log.info("[HolidayRepositoryImpl] Searched holiday dtos");
         return result;
+    }
 
+    /**
+     * 한 국가의 공휴일 전체를 날짜순 DTO 로 조회하는 메서드 (iCalendar 피드 생성용)
+     * @param countryCode 국가 코드
+     * @param holidayType 공휴일 타입 (null 이면 전체)
+     * @return 날짜, id 순으로 정렬된 공휴일 DTO 리스트
+     */
+    @Override
+    public List<HolidayDto> findHolidayDtosByCountry(String countryCode, String holidayType) {
+        return jpaQueryFactory
+            .select(holidayDtoProjection())
+            .from(holiday)
+            .join(holiday.country, country)
+            .where(
+                countryCodeCondition(country, countryCode),
+                holidayTypeCondition(holidayType)
+            )
+            .orderBy(holiday.date.asc(), holiday.id.asc())
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .fetch();
+    }
+
+    /**
+     * 필터에 해당하는 공휴일 전체를 DB 커서로 한 행씩 읽는 Stream 반환 (대량 내보내기용)
+     * - 결과를 리스트로 모으지 않으므로 행 수와 관계없이 메모리 사용량이 일정함
+     * - 호출하는 쪽에서 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     * @param countryCode 국가 코드
+     * @param fromDate 검색 시간(~부터)
+     * @param toDate (~까지)
+     * @param holidayType 공휴일 타입
+     * @param nameLike 해당 단어가 포함된 공휴일 검색
+     * @param nameMatchIds 이름 색인으로 미리 찾은 nameLike 일치 id (null 이면 LIKE 조건 사용)
+     * @param fetchSize DB 커서에서 한 번에 가져올 행 수
+     * @return 날짜, id 순으로 정렬된 공휴일 DTO Stream
+     */
+    @Override
+    public Stream<HolidayDto> streamHolidayDtos(String countryCode, LocalDate fromDate, LocalDate toDate,
+        String holidayType, String nameLike, Collection<UUID> nameMatchIds, int fetchSize) {
+        log.info("[HolidayRepositoryImpl] Streaming holiday dtos");
+        return jpaQueryFactory
+            .select(holidayDtoProjection())
+            .from(holiday)
+            .join(holiday.country, country)
+            .where(
+                countryCodeCondition(country, countryCode),
+                dateCondition(fromDate,toDate),
+                nameLikeCondition(nameLike, nameMatchIds),
+                holidayTypeCondition(holidayType)
+            )
+            .orderBy(holiday.date.asc(), holiday.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream();
+    }
+
+    /**
+     * 공휴일 컬럼을 HolidayDto 생성자로 바로 담는 프로젝션
+     * @return HolidayDto 프로젝션
+     */
+    private ConstructorExpression<HolidayDto> holidayDtoProjection() {
+        return Projections.constructor(HolidayDto.class,
+            holiday.id,
+            holiday.date,
+            holiday.localName,
+            holiday.name,
+            country.countryCode,
+            holiday.fixed,
+            holiday.global,
+            holiday.counties,
+            holiday.launchYear,
+            holiday.typeMask);
     }
 
 
     /**
      * 커서를 기준으로 검색범위를 지정하는 메서드
-     * @param cursor 검색하길 원하는 커서
-     * @param idAfter  보조 검색자(UUID)
-     * @param sortBy  정렬할 필드 (이름, 기간)
+     * - (정렬값, id) 행 값 비교로 이전 페이지 마지막 레코드 바로 다음부터 조회 (중복·누락 없음)
+     * - 정렬값 범위 조건을 함께 걸어 (정렬값, id) 인덱스의 범위 탐색이 되도록 함
+     * @param cursor 이전 페이지 마지막 레코드 커서
+     * @param seekDate 커서가 없을 때 시작할 날짜
      * @param order 정렬 순서
+     * @param sortBy  정렬할 필드 (이름, 기간)
      * @return  검색 범위 조건
      */
-    private BooleanExpression buildCursorCondition(String cursor, UUID idAfter,Order order, String sortBy){
-        if(cursor == null || idAfter == null){
-            return null;
-        }
-        switch(sortBy){
-            case "name":
-                if(order.equals(Order.ASC)){
-                    return holiday.name.gt(cursor)
-                        .or(holiday.name.eq(cursor).and(holiday.id.goe(idAfter)));
-                }
-                else{
-                    return holiday.name.loe(cursor)
-                        .or(holiday.name.eq(cursor).and(holiday.id.goe(idAfter)));
-                }
-            case "date":
-                if(order.equals(Order.ASC)){
-                    return holiday.date.goe(LocalDate.parse(cursor))
-                        .or(holiday.date.eq(LocalDate.parse(cursor)).and(holiday.id.goe(idAfter)));
-                }
-                else{
-                    return holiday.date.loe(LocalDate.parse(cursor))
-                        .or(holiday.date.eq(LocalDate.parse(cursor)).and(holiday.id.goe(idAfter)));
-                }
-            default:
+    private BooleanExpression buildCursorCondition(HolidayCursor cursor, LocalDate seekDate, Order order,
+        String sortBy){
+        boolean ascending = order.equals(Order.ASC);
+        if(cursor == null){
+            if(seekDate == null){
                 return null;
+            }
+            return ascending ? holiday.date.goe(seekDate) : holiday.date.loe(seekDate);
+        }
+        if(sortBy.equals("date")){
+            return seekAfter(holiday.date, cursor.lastDate(), cursor.lastId(), ascending);
         }
+        return seekAfter(holiday.name, cursor.lastValue(), cursor.lastId(), ascending);
+    }
+
+    /**
+     * (정렬값, id) > (마지막 값, 마지막 id) 또는 < 조건 생성
+     * @param sortPath 정렬 컬럼
+     * @param lastValue 이전 페이지 마지막 정렬값
+     * @param lastId 이전 페이지 마지막 id
+     * @param ascending 오름차순 여부
+     * @return 다음 페이지 범위 조건
+     */
+    private <T extends Comparable<?>> BooleanExpression seekAfter(ComparableExpression<T> sortPath, T lastValue,
+        UUID lastId, boolean ascending){
+        BooleanExpression range = ascending ? sortPath.goe(lastValue) : sortPath.loe(lastValue);
+        BooleanExpression rowValue = Expressions.booleanTemplate(
+            ascending ? "({0}, {1}) > ({2}, {3})" : "({0}, {1}) < ({2}, {3})",
+            sortPath, holiday.id, Expressions.constant(lastValue), Expressions.constant(lastId));
+        return range.and(rowValue);
     }
 
     /**
@@ -130,19 +225,20 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom{
      * @param toDate (~까지)
      * @param holidayType 공휴일 타입
      * @param nameLike 해당 단어가 포함된 공휴일 검색
+     * @param nameMatchIds 이름 색인으로 미리 찾은 nameLike 일치 id (null 이면 LIKE 조건 사용)
      * @return 검색된 공휴일 수
      */
     @Override
     public Long countHolidays(String countryCode, LocalDate fromDate, LocalDate toDate,
-        String holidayType, String nameLike) {
+        String holidayType, String nameLike, Collection<UUID> nameMatchIds) {
         log.info("[HolidayRepositoryImpl] Counting holidays");
         Long result = jpaQueryFactory
             .select(holiday.count())
             .from(holiday)
             .where(
-                countryCodeCondition(countryCode),
+                countryCodeCondition(holiday.country, countryCode),
                 dateCondition(fromDate,toDate),
-                nameLikeCondition(nameLike),
+                nameLikeCondition(nameLike, nameMatchIds),
                 holidayTypeCondition(holidayType)
             ).fetchOne();
         log.info("[HolidayRepositoryImpl] Counted holidays: {}", result);
@@ -152,14 +248,15 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom{
 
     /**
      * 국가코드가 일치하는 레코드만 검색
+     * @param countryPath 국가 경로 (연관 경로 또는 명시적으로 join 한 별칭)
      * @param countryCode 찾고자하는 국가코드
      * @return 국가코드가 일치하는 공휴일
      */
-    private BooleanExpression countryCodeCondition(String countryCode) {
+    private BooleanExpression countryCodeCondition(QCountry countryPath, String countryCode) {
         if (countryCode == null || countryCode.isBlank()) {
             return null;
         }
-        return holiday.country.countryCode.eq(countryCode);
+        return countryPath.countryCode.eq(countryCode);
     }
 
     /**
@@ -176,29 +273,53 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom{
     }
 
     /**
-     * 해당되는 단어가 존재하는 공휴일을 검색
+     * 해당되는 단어가 name 또는 localName 에 존재하는 공휴일을 검색
+     * - 이름 색인으로 찾은 id 가 있으면 id IN 조건으로 대체 (LIKE 전체 스캔 회피)
+     * - 색인을 쓸 수 없으면 색인과 같은 규칙으로 정규화한 컬럼에 LIKE (와일드카드 문자는 그대로 비교)
      * @param nameLike 찾고자하는 단어
+     * @param nameMatchIds 이름 색인으로 미리 찾은 id
      * @return 해당 단어가 포함된 공휴일
      */
-    private BooleanExpression nameLikeCondition(String nameLike) {
+    private BooleanExpression nameLikeCondition(String nameLike, Collection<UUID> nameMatchIds) {
         if (nameLike == null || nameLike.isBlank()) {
             return null;
         }
-        return holiday.name.likeIgnoreCase("%" + nameLike + "%");
+        if (nameMatchIds != null) {
+            return holiday.id.in(nameMatchIds);
+        }
+        String pattern = "%" + escapeLike(Holiday.normalizeName(nameLike)) + "%";
+        return holiday.nameSearch.like(pattern, LIKE_ESCAPE)
+            .or(holiday.localNameSearch.like(pattern, LIKE_ESCAPE));
+    }
+
+    private static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
     }
 
 
     /**
      * 해당 공휴일 타입을 포함하는 공휴일을 검색
+     * - 타입 비트를 포함하는 마스크 값 목록에 대한 IN 조건 (비트 연산 함수 없이 값 비교)
+     * - 국가와 함께 검색하면 idx_holidays_country_type_date_id 의 (country_id, type_mask) 로 마스크 값마다 범위 탐색
      * @param holidayType 찾고자하는 공휴일 타입
      * @return 해당되는 타입의 공휴일
+     * @throws InvalidRequestException 지원하지 않는 타입일 때
      */
     private BooleanExpression holidayTypeCondition(String holidayType) {
         if(holidayType == null || holidayType.isBlank()){
             return null;
         }
 
-        return holiday.types.likeIgnoreCase("%" + holidayType + "%");
+        HolidayType type = HolidayType.find(holidayType)
+            .orElseThrow(() -> new InvalidRequestException("지원하지 않는 공휴일 타입입니다: " + holidayType));
+        return holiday.typeMask.in(type.masksContaining());
 
     }
 }
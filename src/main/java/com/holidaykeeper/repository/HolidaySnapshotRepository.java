@@ -0,0 +1,92 @@
+package com.holidaykeeper.repository;
+
+import com.holidaykeeper.dto.HolidaySnapshot.SyncState;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import com.holidaykeeper.entity.HolidayType;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스냅샷 기록·복원용 JDBC 조회/저장 (엔티티를 거치지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class HolidaySnapshotRepository {
+
+    private static final String SELECT_HOLIDAYS = "SELECT c.country_code, h.date, h.local_name, h.name, h.fixed, "
+        + "h.global, h.counties, h.launch_year, h.type_mask "
+        + "FROM tbl_holidays h JOIN tbl_countries c ON c.id = h.country_id "
+        + "ORDER BY c.country_code, h.date, h.name";
+    private static final String SELECT_SYNC_STATES = "SELECT c.country_code, s.holiday_year, s.content_hash, "
+        + "s.upstream_etag, s.upstream_last_modified, s.payload_hash "
+        + "FROM tbl_holiday_sync_states s JOIN tbl_countries c ON c.id = s.country_id "
+        + "ORDER BY c.country_code, s.holiday_year";
+    private static final String INSERT_SYNC_STATE = "INSERT INTO tbl_holiday_sync_states "
+        + "(id, country_id, holiday_year, content_hash, upstream_etag, upstream_last_modified, payload_hash, synced_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 공휴일을 국가 코드별로 조회 (국가 안에서는 날짜, 이름 순)
+     * @return 국가 코드별 공휴일
+     */
+    public Map<String, List<HolidaySaveRequest>> findAllHolidaysByCountry() {
+        Map<String, List<HolidaySaveRequest>> holidays = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_HOLIDAYS, rs -> {
+            String countryCode = rs.getString(1);
+            String counties = rs.getString(7);
+            int launchYear = rs.getInt(8);
+            boolean hasLaunchYear = !rs.wasNull();
+            holidays.computeIfAbsent(countryCode, key -> new ArrayList<>())
+                .add(new HolidaySaveRequest(rs.getObject(2, LocalDate.class), rs.getString(3),
+                    rs.getString(4), countryCode, rs.getBoolean(5), rs.getBoolean(6),
+                    counties == null ? null : Arrays.asList(counties.split(",")),
+                    hasLaunchYear ? launchYear : null, HolidayType.toNames(rs.getInt(9))));
+        });
+        return holidays;
+    }
+
+    /**
+     * 모든 동기화 상태를 국가 코드별로 조회 (연도 순)
+     * @return 국가 코드별 동기화 상태
+     */
+    public Map<String, List<SyncState>> findAllSyncStatesByCountry() {
+        Map<String, List<SyncState>> states = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_SYNC_STATES, rs -> {
+            states.computeIfAbsent(rs.getString(1), key -> new ArrayList<>())
+                .add(new SyncState(rs.getInt(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                    rs.getString(6)));
+        });
+        return states;
+    }
+
+    /**
+     * 국가 하나의 동기화 상태를 JDBC 배치로 저장 (호출한 쪽의 트랜잭션에 참여)
+     * @param countryId 국가 ID
+     * @param states 동기화 상태
+     */
+    public void insertSyncStates(UUID countryId, List<SyncState> states) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SYNC_STATE, states, states.size(), (ps, state) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, countryId);
+            ps.setInt(3, state.year());
+            ps.setString(4, state.contentHash());
+            ps.setString(5, state.etag());
+            ps.setString(6, state.lastModified());
+            ps.setString(7, state.payloadHash());
+            ps.setTimestamp(8, now);
+        });
+    }
+}
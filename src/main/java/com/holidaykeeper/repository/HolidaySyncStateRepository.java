@@ -0,0 +1,34 @@
+package com.holidaykeeper.repository;
+
+import com.holidaykeeper.dto.HolidayYearDto;
+import com.holidaykeeper.entity.HolidaySyncState;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface HolidaySyncStateRepository extends JpaRepository<HolidaySyncState, UUID> {
+
+    Optional<HolidaySyncState> findByCountry_IdAndHolidayYear(UUID countryId, int holidayYear);
+
+    @Query("select s from HolidaySyncState s join fetch s.country where s.holidayYear in :holidayYears")
+    List<HolidaySyncState> findAllWithCountryByHolidayYearIn(@Param("holidayYears") Collection<Integer> holidayYears);
+
+    /**
+     * 국가별 적재(동기화)된 연도 (공휴일이 없는 연도도 포함)
+     */
+    @Query("select new com.holidaykeeper.dto.HolidayYearDto(c.countryCode, s.holidayYear) "
+        + "from HolidaySyncState s join s.country c")
+    List<HolidayYearDto> findAllSyncedYears();
+
+    @Query("select s.holidayYear from HolidaySyncState s join s.country c where c.countryCode = :countryCode")
+    List<Integer> findSyncedYearsByCountryCode(@Param("countryCode") String countryCode);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from HolidaySyncState s where s.country.id = :countryId and s.holidayYear = :holidayYear")
+    int deleteByCountryIdAndHolidayYear(@Param("countryId") UUID countryId, @Param("holidayYear") int holidayYear);
+}
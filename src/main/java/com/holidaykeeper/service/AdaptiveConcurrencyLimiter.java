@@ -0,0 +1,230 @@
+package com.holidaykeeper.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * 외부 API 동시 요청 수를 AIMD(가산 증가 · 승산 감소) 방식으로 조절하는 리미터
+ * - 빠른 성공 응답 : 한도가 가득 찬 상태일 때만 한도를 1/한도 만큼 증가 (왕복 한 번에 약 +1)
+ * - 429 / 5xx / 연결 오류 / 지연 응답 : 한도에 decreaseRatio 를 곱해 감소
+ * - 한 번 줄인 뒤 그 이전에 보낸 요청의 실패로 다시 줄이지 않음 (동시 실패로 한도가 바닥까지 떨어지는 것 방지)
+ * - 한도를 넘는 요청은 대기열에서 허가를 기다림 (limit 는 스레드를 막지 않고, limitBlocking 은 호출 스레드가 대기)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double decreaseRatio;
+    private final long latencyThresholdNanos;
+
+    private final Deque<Permit> waiters = new ArrayDeque<>();
+
+    // 아래 필드는 모두 this 로 동기화
+    private double limit;
+    private int inFlight;
+    private int peakLimit;
+    private long lastDecreaseNanos;
+    private long requests;
+    private long throttled;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double decreaseRatio,
+        Duration latencyThreshold) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.decreaseRatio = decreaseRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+        this.peakLimit = initialLimit;
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * 허가를 얻은 뒤 요청을 실행하고, 결과(성공·지연·과부하)로 한도를 조절하는 메서드
+     * - 허가를 받은 뒤에는 성공·오류·취소 어느 경로로 끝나도 허가를 한 번만 반환
+     * @param call 외부 API 요청 (구독할 때마다 새로 요청)
+     * @return 요청 결과
+     */
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.usingWhen(acquire(),
+            permit -> call,
+            permit -> Mono.fromRunnable(permit::complete),
+            (permit, e) -> Mono.fromRunnable(() -> permit.release(classify(e))),
+            permit -> Mono.fromRunnable(() -> permit.release(Outcome.IGNORED)));
+    }
+
+    /**
+     * limit 의 blocking 버전 (가상 스레드에서 호출, 허가를 얻을 때까지 호출 스레드가 대기)
+     * - 대기 중 인터럽트되면 대기를 취소하고, 그 사이 넘겨받은 허가는 반환
+     * @param call 외부 API 요청
+     * @return 요청 결과
+     */
+    public <T> T limitBlocking(Callable<T> call) throws Exception {
+        Permit permit = acquire().block();
+        T value;
+        try {
+            value = call.call();
+        } catch (Exception e) {
+            permit.release(classify(e));
+            throw e;
+        }
+        permit.complete();
+        return value;
+    }
+
+    /**
+     * 현재 동시 요청 한도
+     */
+    public synchronized int currentLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 실행 중 가장 높았던 동시 요청 한도
+     */
+    public synchronized int peakLimit() {
+        return peakLimit;
+    }
+
+    /**
+     * 허가를 받아 보낸 요청 수
+     */
+    public synchronized long requests() {
+        return requests;
+    }
+
+    /**
+     * 과부하(429/5xx/연결 오류/지연) 신호를 받은 요청 수
+     */
+    public synchronized long throttled() {
+        return throttled;
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Permit permit = new Permit(sink);
+            boolean granted;
+            synchronized (this) {
+                granted = inFlight < (int) limit;
+                if (granted) {
+                    inFlight++;
+                    requests++;
+                } else {
+                    waiters.addLast(permit);
+                }
+            }
+            if (granted) {
+                permit.grant();
+                return;
+            }
+            // 대기열에 없으면 이미 허가를 넘겨받은 것이므로 (깨우기 전에 취소됨) 허가를 반환
+            sink.onCancel(() -> {
+                boolean waiting;
+                synchronized (this) {
+                    waiting = waiters.remove(permit);
+                }
+                if (!waiting) {
+                    permit.release(Outcome.IGNORED);
+                }
+            });
+        });
+    }
+
+    private void release(long startNanos, Outcome outcome) {
+        List<Permit> granted = new ArrayList<>();
+        synchronized (this) {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+
+            if (outcome == Outcome.SUCCESS && saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+                peakLimit = Math.max(peakLimit, (int) limit);
+            } else if (outcome == Outcome.OVERLOADED) {
+                throttled++;
+                // 마지막 감소 이후에 시작한 요청일 때만 감소
+                if (startNanos - lastDecreaseNanos >= 0) {
+                    limit = Math.max(minLimit, limit * decreaseRatio);
+                    lastDecreaseNanos = System.nanoTime();
+                }
+            }
+
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                inFlight++;
+                requests++;
+                granted.add(waiters.pollFirst());
+            }
+        }
+        // 대기 중이던 요청은 락 밖에서 깨움
+        granted.forEach(Permit::grant);
+    }
+
+    /**
+     * 상대 서버 과부하를 뜻하는 오류인지 확인 (429, 5xx, 연결 오류, 타임아웃)
+     * @param e 요청 오류
+     * @return 과부하 신호 여부
+     */
+    public static boolean isOverloadSignal(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return isOverloadStatus(responseException.getStatusCode().value());
+        }
+        if (e instanceof RestClientResponseException responseException) {
+            return isOverloadStatus(responseException.getStatusCode().value());
+        }
+        return e instanceof WebClientRequestException || e instanceof ResourceAccessException
+            || e instanceof TimeoutException;
+    }
+
+    private static boolean isOverloadStatus(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private static Outcome classify(Throwable e) {
+        return isOverloadSignal(e) ? Outcome.OVERLOADED : Outcome.IGNORED;
+    }
+
+    /**
+     * 요청 하나의 허가 (허가를 넘겨받은 시각부터 지연 시간을 재고, 반환은 한 번만)
+     */
+    private final class Permit {
+
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile long startNanos;
+
+        private Permit(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        private void grant() {
+            startNanos = System.nanoTime();
+            sink.success(this);
+        }
+
+        private void complete() {
+            release(System.nanoTime() - startNanos > latencyThresholdNanos ? Outcome.OVERLOADED : Outcome.SUCCESS);
+        }
+
+        private void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release(startNanos, outcome);
+            }
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        OVERLOADED,
+        IGNORED
+    }
+}
@@ -0,0 +1,145 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.exception.InvalidRequestException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 국가별 영업일 비트셋을 이용한 영업일 계산 서비스
+ * - 연 단위 popcount 로 구간을 건너뛰고, 마지막 연도에서만 비트를 순차 탐색
+ * - DB 조회 없이 HolidayCalendarIndex 의 달력만 사용
+ * - 공휴일 데이터를 적재하지 않은 연도를 지나야 하면 추정하지 않고 400 으로 거절 (적재된 연도 범위를 함께 안내)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BusinessDayService {
+
+    private final HolidayCalendarIndex holidayCalendarIndex;
+
+    /**
+     * 기준일로부터 N 영업일 후(음수면 전)의 날짜를 계산하는 메서드
+     * @param countryCode 국가코드
+     * @param date 기준일 (계산에 포함되지 않음)
+     * @param days 더할 영업일 수, 0 이면 기준일 그대로 반환
+     * @return 계산된 영업일
+     * @throws InvalidRequestException 계산 중 공휴일 데이터를 적재하지 않은 연도를 지나야 할 때
+     */
+    public LocalDate addBusinessDays(String countryCode, LocalDate date, int days) {
+        CountryCalendar calendar = holidayCalendarIndex.getCalendar(countryCode);
+
+        if (days == 0) {
+            return date;
+        }
+        return days > 0 ? forward(calendar, date, days) : backward(calendar, date, -(long) days);
+    }
+
+    /**
+     * 기준일 다음 영업일을 계산하는 메서드
+     * @param countryCode 국가코드
+     * @param date 기준일
+     * @return 다음 영업일
+     */
+    public LocalDate nextBusinessDay(String countryCode, LocalDate date) {
+        return addBusinessDays(countryCode, date, 1);
+    }
+
+    /**
+     * 두 날짜 사이의 영업일 수를 계산하는 메서드 ([fromDate, toDate) 반열린 구간)
+     * @param countryCode 국가코드
+     * @param fromDate 시작일 (포함)
+     * @param toDate 종료일 (미포함)
+     * @return 영업일 수, toDate 가 fromDate 보다 앞이면 음수
+     * @throws InvalidRequestException 구간에 공휴일 데이터를 적재하지 않은 연도가 있을 때
+     */
+    public long businessDaysBetween(String countryCode, LocalDate fromDate, LocalDate toDate) {
+        CountryCalendar calendar = holidayCalendarIndex.getCalendar(countryCode);
+
+        return toDate.isBefore(fromDate)
+            ? -countBetween(calendar, toDate, fromDate)
+            : countBetween(calendar, fromDate, toDate);
+    }
+
+    private LocalDate forward(CountryCalendar calendar, LocalDate date, long days) {
+        int year = date.getYear();
+        int from = date.getDayOfYear();  // 기준일 다음날의 비트 인덱스
+        long remaining = days;
+
+        while (true) {
+            BitSet workingDays = loadedWorkingDays(calendar, year);
+            int length = Year.of(year).length();
+            int available = from >= length ? 0 : workingDays.get(from, length).cardinality();
+
+            // 해당 연도의 남은 영업일로 부족하면 연도 단위로 건너뜀
+            if (available < remaining) {
+                remaining -= available;
+                year++;
+                from = 0;
+                continue;
+            }
+
+            int index = workingDays.nextSetBit(from);
+            while (--remaining > 0) {
+                index = workingDays.nextSetBit(index + 1);
+            }
+            return LocalDate.ofYearDay(year, index + 1);
+        }
+    }
+
+    private LocalDate backward(CountryCalendar calendar, LocalDate date, long days) {
+        int year = date.getYear();
+        int to = date.getDayOfYear() - 2;  // 기준일 전날의 비트 인덱스
+        long remaining = days;
+
+        while (true) {
+            BitSet workingDays = loadedWorkingDays(calendar, year);
+            int available = to < 0 ? 0 : workingDays.get(0, to + 1).cardinality();
+
+            if (available < remaining) {
+                remaining -= available;
+                year--;
+                to = Year.of(year).length() - 1;
+                continue;
+            }
+
+            int index = workingDays.previousSetBit(to);
+            while (--remaining > 0) {
+                index = workingDays.previousSetBit(index - 1);
+            }
+            return LocalDate.ofYearDay(year, index + 1);
+        }
+    }
+
+    /**
+     * [fromDate, toDate) 구간의 영업일 수를 연도별 popcount 합으로 계산
+     */
+    private long countBetween(CountryCalendar calendar, LocalDate fromDate, LocalDate toDate) {
+        long count = 0;
+        for (int year = fromDate.getYear(); year <= toDate.getYear(); year++) {
+            int start = year == fromDate.getYear() ? fromDate.getDayOfYear() - 1 : 0;
+            int end = year == toDate.getYear() ? toDate.getDayOfYear() - 1 : Year.of(year).length();
+            if (start < end) {
+                count += loadedWorkingDays(calendar, year).get(start, end).cardinality();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 공휴일 데이터를 적재한 연도의 영업일 비트셋을 가져오는 메서드
+     * - 적재하지 않은 연도는 공휴일이 없는 것인지 알 수 없으므로 주말만 제외하여 추정하지 않음
+     * - 적재한 연도는 유한하므로 계산 범위도 적재한 연도 안으로 제한됨
+     */
+    private BitSet loadedWorkingDays(CountryCalendar calendar, int year) {
+        if (!calendar.isLoaded(year)) {
+            throw new InvalidRequestException(calendar.getCountryCode() + " 의 " + year
+                + "년 공휴일 데이터가 적재되지 않아 영업일을 계산할 수 없습니다. (적재된 연도: "
+                + calendar.loadedYearRanges() + ")");
+        }
+        return calendar.workingDaysOf(year);
+    }
+}
@@ -0,0 +1,165 @@
+package com.holidaykeeper.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한 국가의 공휴일·영업일을 연도별 비트셋(dayOfYear - 1 번째 비트)으로 보관하는 불변 달력
+ * - 생성 이후에는 비트셋을 수정하지 않으므로 여러 스레드에서 동시에 읽어도 안전
+ * - 영업일 비트셋 = 전체 일자 - 주말 - 공휴일
+ * - 공휴일 데이터를 적재한 연도(loadedYears)를 함께 보관 : 적재하지 않은 연도는 공휴일이 없는 것인지 알 수 없음
+ */
+public final class CountryCalendar {
+
+    private final String countryCode;
+    private final Set<DayOfWeek> weekend;
+    private final Map<Integer, BitSet> holidaysByYear;
+    private final NavigableSet<Integer> loadedYears;
+
+    // 적재하지 않은 연도는 조회 시점에 주말만 제외하여 계산 후 보관
+    private final Map<Integer, BitSet> workingDaysByYear = new ConcurrentHashMap<>();
+
+    private CountryCalendar(String countryCode, Set<DayOfWeek> weekend, Map<Integer, BitSet> holidaysByYear,
+        NavigableSet<Integer> loadedYears) {
+        this.countryCode = countryCode;
+        this.weekend = weekend;
+        this.holidaysByYear = holidaysByYear;
+        this.loadedYears = loadedYears;
+    }
+
+    /**
+     * 공휴일 날짜 목록으로 국가 달력을 생성하는 메서드 (적재한 연도의 영업일은 미리 계산)
+     * @param countryCode 국가코드
+     * @param weekend 주말 요일
+     * @param dates 공휴일 날짜 목록
+     * @param syncedYears 공휴일 데이터를 적재한 연도 (공휴일이 없는 연도 포함, 공휴일이 있는 연도는 자동 포함)
+     * @return 생성된 달력
+     */
+    public static CountryCalendar of(String countryCode, Set<DayOfWeek> weekend, Collection<LocalDate> dates,
+        Collection<Integer> syncedYears) {
+        Map<Integer, BitSet> holidaysByYear = new HashMap<>();
+        for (LocalDate date : dates) {
+            holidaysByYear.computeIfAbsent(date.getYear(), year -> new BitSet(366))
+                .set(date.getDayOfYear() - 1);
+        }
+        TreeSet<Integer> loadedYears = new TreeSet<>(syncedYears);
+        loadedYears.addAll(holidaysByYear.keySet());
+        CountryCalendar calendar = new CountryCalendar(countryCode,
+            weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend), holidaysByYear,
+            Collections.unmodifiableNavigableSet(loadedYears));
+        loadedYears.forEach(calendar::workingDaysOf);
+        return calendar;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    /**
+     * 해당 연도의 공휴일 데이터를 적재했는지 확인하는 메서드
+     * @param year 연도
+     * @return 적재했으면 true (적재하지 않은 연도의 영업일은 주말만 제외한 추정값)
+     */
+    public boolean isLoaded(int year) {
+        return loadedYears.contains(year);
+    }
+
+    /**
+     * 적재한 연도 범위 (예: 2021-2026, 중간에 빠진 연도가 있으면 2010-2012, 2021-2026, 없으면 none)
+     * @return 이어지는 연도끼리 묶은 범위 표시 문자열
+     */
+    public String loadedYearRanges() {
+        if (loadedYears.isEmpty()) {
+            return "none";
+        }
+        StringJoiner ranges = new StringJoiner(", ");
+        Integer start = null;
+        Integer previous = null;
+        for (int year : loadedYears) {
+            if (previous != null && year != previous + 1) {
+                ranges.add(range(start, previous));
+                start = null;
+            }
+            if (start == null) {
+                start = year;
+            }
+            previous = year;
+        }
+        ranges.add(range(start, previous));
+        return ranges.toString();
+    }
+
+    private static String range(int start, int end) {
+        return start == end ? String.valueOf(start) : start + "-" + end;
+    }
+
+    /**
+     * 해당 날짜가 공휴일인지 확인하는 메서드
+     * @param date 확인할 날짜
+     * @return 공휴일 여부
+     */
+    public boolean isHoliday(LocalDate date) {
+        BitSet holidays = holidaysByYear.get(date.getYear());
+        return holidays != null && holidays.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 해당 날짜가 영업일(주말·공휴일이 아닌 날)인지 확인하는 메서드
+     * @param date 확인할 날짜
+     * @return 영업일 여부
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        return workingDaysOf(date.getYear()).get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 해당 연도의 공휴일 비트셋 (읽기 전용으로만 사용해야 한다)
+     * @param year 연도
+     * @return 공휴일 비트셋, 데이터가 없으면 빈 비트셋
+     */
+    BitSet holidaysOf(int year) {
+        BitSet holidays = holidaysByYear.get(year);
+        return holidays == null ? EMPTY : holidays;
+    }
+
+    /**
+     * 해당 연도의 영업일 비트셋 (읽기 전용으로만 사용해야 한다)
+     * @param year 연도
+     * @return 영업일 비트셋
+     */
+    BitSet workingDaysOf(int year) {
+        return workingDaysByYear.computeIfAbsent(year, this::computeWorkingDays);
+    }
+
+    private BitSet computeWorkingDays(int year) {
+        int length = Year.of(year).length();
+        BitSet workingDays = new BitSet(length);
+        workingDays.set(0, length);
+
+        // 1월 1일의 요일부터 하루씩 넘기며 주말 비트 제거
+        DayOfWeek dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek();
+        for (int i = 0; i < length; i++) {
+            if (weekend.contains(dayOfWeek)) {
+                workingDays.clear(i);
+            }
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+
+        workingDays.andNot(holidaysOf(year));
+        return workingDays;
+    }
+
+    private static final BitSet EMPTY = new BitSet(0);
+}
@@ -0,0 +1,187 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.BusinessDayProperties;
+import com.holidaykeeper.dto.HolidayDateDto;
+import com.holidaykeeper.dto.HolidayYearDto;
+import com.holidaykeeper.dto.request.HolidayCheckRequest;
+import com.holidaykeeper.dto.response.HolidayCheckResponse;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.event.HolidayDataChangedEvent;
+import com.holidaykeeper.exception.CountryCodeNotFoundException;
+import com.holidaykeeper.exception.InvalidRequestException;
+import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.repository.HolidayRepository;
+import com.holidaykeeper.repository.HolidaySyncStateRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 국가별 공휴일 달력 인메모리 인덱스
+ * - 기동 완료 시점에 전체 국가 목록과 tbl_holidays 로 구성 (공휴일이 없는 국가는 빈 달력)
+ * - 적재(동기화)한 연도를 함께 보관하여, 적재하지 않은 연도와 공휴일이 없는 연도를 구분
+ * - 공휴일 데이터 변경 이벤트를 받으면 커밋 이후 해당 국가만 재구성
+ * - 기동 이후 추가된 국가는 처음 조회할 때 DB 에 있으면 달력을 만들어 등록
+ * - "해당 날짜가 공휴일인가?" 질의를 DB 조회 없이 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayCalendarIndex {
+
+    private final CountryRepository countryRepository;
+    private final HolidayRepository holidayRepository;
+    private final HolidaySyncStateRepository holidaySyncStateRepository;
+    private final BusinessDayProperties businessDayProperties;
+
+    // 국가코드 → 달력 (공휴일 데이터가 없는 국가도 빈 달력으로 등록)
+    private final Map<String, CountryCalendar> calendars = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 국가의 달력을 다시 구성하는 메서드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildAll() {
+        List<Country> countries = countryRepository.findAll();
+        Map<String, List<LocalDate>> datesByCountry = holidayRepository.findAllHolidayDates()
+            .stream()
+            .collect(Collectors.groupingBy(HolidayDateDto::countryCode,
+                Collectors.mapping(HolidayDateDto::date, Collectors.toList())));
+        Map<String, List<Integer>> yearsByCountry = holidaySyncStateRepository.findAllSyncedYears()
+            .stream()
+            .collect(Collectors.groupingBy(HolidayYearDto::countryCode,
+                Collectors.mapping(HolidayYearDto::year, Collectors.toList())));
+
+        Map<String, CountryCalendar> rebuilt = new HashMap<>();
+        for (Country country : countries) {
+            String countryCode = country.getCountryCode();
+            rebuilt.put(countryCode, CountryCalendar.of(countryCode,
+                businessDayProperties.weekendOf(countryCode),
+                datesByCountry.getOrDefault(countryCode, List.of()),
+                yearsByCountry.getOrDefault(countryCode, List.of())));
+        }
+
+        calendars.putAll(rebuilt);
+        calendars.keySet().retainAll(rebuilt.keySet());
+        log.info("[HolidayCalendarIndex] Rebuilt calendars for {} countries", rebuilt.size());
+    }
+
+    /**
+     * 공휴일 데이터가 변경된 국가의 달력만 다시 구성하는 메서드 (커밋 이후 실행)
+     * @param event 공휴일 데이터 변경 이벤트
+     */
+    @Order(HolidayDataChangedEvent.INDEX_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        rebuild(event.countryCode());
+    }
+
+    /**
+     * 특정 국가의 달력을 다시 구성하는 메서드
+     * @param countryCode 국가코드
+     */
+    public synchronized void rebuild(String countryCode) {
+        List<LocalDate> dates = holidayRepository.findHolidayDatesByCountryCode(countryCode)
+            .stream()
+            .map(HolidayDateDto::date)
+            .toList();
+        calendars.put(countryCode, CountryCalendar.of(countryCode, businessDayProperties.weekendOf(countryCode),
+            dates, holidaySyncStateRepository.findSyncedYearsByCountryCode(countryCode)));
+        log.debug("[HolidayCalendarIndex] Rebuilt calendar {} ({} holidays)", countryCode, dates.size());
+    }
+
+    /**
+     * 해당 국가·날짜가 공휴일인지 확인하는 메서드
+     * @param countryCode 국가코드
+     * @param date 확인할 날짜
+     * @return 공휴일 여부
+     */
+    public boolean isHoliday(String countryCode, LocalDate date) {
+        return getCalendar(countryCode).isHoliday(date);
+    }
+
+    /**
+     * 여러 (국가, 날짜) 쌍의 공휴일 여부를 한 번에 확인하는 메서드
+     * - 요청에 등장한 국가별로 달력을 한 번만 조회한 뒤 요청 순서대로 판정
+     * - countryCode 가 비었거나 date 가 없는 항목, 존재하지 않는 국가가 하나라도 있으면 판정 전에 예외 처리
+     * @param requests 확인할 (국가, 날짜) 목록
+     * @return 요청 순서와 동일한 판정 결과
+     */
+    public List<HolidayCheckResponse> checkAll(List<HolidayCheckRequest> requests) {
+        Set<String> countryCodes = new LinkedHashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            HolidayCheckRequest request = requests.get(i);
+            if (request == null || request.countryCode() == null || request.countryCode().isBlank()
+                || request.date() == null) {
+                throw new InvalidRequestException((i + 1) + "번째 항목: countryCode 와 date 는 필수입니다.");
+            }
+            countryCodes.add(request.countryCode());
+        }
+
+        Map<String, CountryCalendar> calendarsByCode = new HashMap<>();
+        for (String countryCode : countryCodes) {
+            calendarsByCode.put(countryCode, getCalendar(countryCode));
+        }
+
+        List<HolidayCheckResponse> result = new ArrayList<>(requests.size());
+        for (HolidayCheckRequest request : requests) {
+            CountryCalendar calendar = calendarsByCode.get(request.countryCode());
+            result.add(new HolidayCheckResponse(request.countryCode(), request.date(),
+                calendar.isHoliday(request.date())));
+        }
+        return result;
+    }
+
+    /**
+     * 국가 달력 조회, 없을경우 예외 처리
+     * @param countryCode 국가코드
+     * @return 국가 달력
+     */
+    public CountryCalendar getCalendar(String countryCode) {
+        return findCalendar(countryCode)
+            .orElseThrow(CountryCodeNotFoundException::new);
+    }
+
+    /**
+     * 등록된 모든 국가 달력 조회
+     * @return 국가 달력 목록
+     */
+    public Collection<CountryCalendar> getAllCalendars() {
+        return List.copyOf(calendars.values());
+    }
+
+    /**
+     * 국가 달력 조회 (기동 이후 추가되어 아직 등록되지 않은 국가는 DB 에서 확인 후 등록)
+     * @param countryCode 국가코드
+     * @return 국가 달력, 없는 국가면 빈 값
+     */
+    public Optional<CountryCalendar> findCalendar(String countryCode) {
+        if (countryCode == null) {
+            return Optional.empty();
+        }
+        CountryCalendar calendar = calendars.get(countryCode);
+        if (calendar != null) {
+            return Optional.of(calendar);
+        }
+        return countryRepository.findByCountryCode(countryCode)
+            .map(country -> {
+                rebuild(countryCode);
+                return calendars.get(countryCode);
+            });
+    }
+}
@@ -0,0 +1,52 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 API 공휴일 목록의 내용 해시(SHA-256) 계산
+ * - 응답 순서나 counties/types 나열 순서가 달라도 같은 내용이면 같은 해시가 되도록 정규화
+ */
+final class HolidayContentHasher {
+
+    private HolidayContentHasher() {
+    }
+
+    static String hash(List<HolidaySaveRequest> requests) {
+        String canonical = requests.stream()
+            .map(HolidayContentHasher::canonicalLine)
+            .sorted()
+            .collect(Collectors.joining("\n"));
+        return sha256(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String canonicalLine(HolidaySaveRequest request) {
+        return String.join("\t",
+            Objects.toString(request.date()),
+            Objects.toString(request.localName()),
+            Objects.toString(request.name()),
+            Boolean.toString(request.fixed()),
+            Boolean.toString(request.global()),
+            sortedJoin(request.counties()),
+            Objects.toString(request.launchYear()),
+            sortedJoin(request.types()));
+    }
+
+    private static String sortedJoin(List<String> values) {
+        return values == null ? "" : values.stream().sorted().collect(Collectors.joining(","));
+    }
+}
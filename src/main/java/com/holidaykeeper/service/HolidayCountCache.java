@@ -0,0 +1,83 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.event.HolidayDataChangedEvent;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 필터별 전체 건수(countHolidays) 캐시
+ * - 같은 필터로 다음 페이지를 조회할 때 count 쿼리를 다시 실행하지 않음
+ * - 공휴일 데이터가 변경되면 해당 국가 필터와 국가 미지정 필터 항목만 제거
+ */
+@Slf4j
+@Component
+public class HolidayCountCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<CountKey, Long> counts = new ConcurrentHashMap<>();
+
+    // 계산 도중 무효화가 일어났는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 건수를 반환하고, 없으면 계산하여 저장하는 메서드
+     * @param loader 실제 count 쿼리
+     * @return 전체 건수
+     */
+    public Long getOrLoad(String countryCode, LocalDate fromDate, LocalDate toDate, String holidayType,
+        String nameLike, Supplier<Long> loader) {
+        CountKey key = new CountKey(blankToNull(countryCode), fromDate, toDate, blankToNull(holidayType),
+            blankToNull(nameLike));
+        Long cached = counts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        Long count = loader.get();
+
+        // 계산하는 동안 데이터가 변경되었다면 오래된 값일 수 있으므로 저장하지 않음
+        if (count != null && generation.get() == startGeneration) {
+            if (counts.size() >= MAX_ENTRIES) {
+                counts.clear();
+            }
+            counts.put(key, count);
+        }
+        return count;
+    }
+
+    /**
+     * 공휴일 데이터가 변경된 국가의 건수 캐시 제거 (커밋 이후 실행)
+     * @param event 공휴일 데이터 변경 이벤트
+     */
+    @Order(HolidayDataChangedEvent.CACHE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        counts.keySet().removeIf(key ->
+            key.countryCode() == null || Objects.equals(key.countryCode(), event.countryCode()));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private record CountKey(
+        String countryCode,
+        LocalDate fromDate,
+        LocalDate toDate,
+        String holidayType,
+        String nameLike
+    ) {
+
+    }
+}
@@ -0,0 +1,44 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.repository.CountryRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 작업을 국가 단위 파티션으로 나누는 Partitioner
+ * - 국가 하나당 파티션 하나 (gridSize 는 동시에 실행할 파티션 수로만 사용)
+ * - 파티션 이름(holidaySyncStep:country-KR)으로 작업 저장소에 국가별 진행 상황·처리량이 남음
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayCountryPartitioner implements Partitioner {
+
+    public static final String COUNTRY_CODE = "countryCode";
+
+    private final CountryRepository countryRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (Country country : countryRepository.findAll()) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(COUNTRY_CODE, country.getCountryCode());
+            partitions.put(partitionName(country.getCountryCode()), context);
+        }
+        return partitions;
+    }
+
+    /**
+     * 국가의 파티션 이름
+     * @param countryCode 국가 코드
+     * @return 파티션 이름 (파티션 스텝 실행 이름은 "holidaySyncStep:" + 파티션 이름)
+     */
+    public static String partitionName(String countryCode) {
+        return "country-" + countryCode;
+    }
+}
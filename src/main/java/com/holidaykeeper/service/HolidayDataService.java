@@ -1,22 +1,45 @@
 package com.holidaykeeper.service;
 
+import com.holidaykeeper.dto.HolidayCursor;
 import com.holidaykeeper.dto.HolidayDto;
+import com.holidaykeeper.dto.HolidaySnapshot;
+import com.holidaykeeper.dto.HolidaySyncCommand;
+import com.holidaykeeper.dto.HolidaySyncKey;
+import com.holidaykeeper.dto.HolidaySyncResult;
+import com.holidaykeeper.dto.HolidayUpstreamValidators;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
 import com.holidaykeeper.dto.response.HolidayPageResponse;
 import com.holidaykeeper.entity.Country;
 import com.holidaykeeper.entity.Holiday;
+import com.holidaykeeper.entity.HolidaySyncState;
+import com.holidaykeeper.event.HolidayDataChangedEvent;
 import com.holidaykeeper.exception.CountryCodeNotFoundException;
-import com.holidaykeeper.mapper.HolidayMapper;
+import com.holidaykeeper.exception.InvalidRequestException;
 import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.repository.HolidayJdbcRepository;
 import com.holidaykeeper.repository.HolidayRepository;
 import com.holidaykeeper.repository.HolidayRepositoryCustom;
+import com.holidaykeeper.repository.HolidaySnapshotRepository;
+import com.holidaykeeper.repository.HolidaySyncStateRepository;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -24,52 +47,249 @@ import org.springframework.transaction.annotation.Transactional;
 public class HolidayDataService {
 
     private final HolidayRepository holidayRepository;
+    private final HolidayJdbcRepository holidayJdbcRepository;
     private final CountryRepository countryRepository;
-    private final HolidayMapper holidayMapper;
     private final HolidayRepositoryCustom holidayRepositoryCustom;
+    private final HolidaySyncStateRepository holidaySyncStateRepository;
+    private final HolidaySnapshotRepository holidaySnapshotRepository;
+    private final HolidayNameIndex holidayNameIndex;
+    private final HolidayCountCache holidayCountCache;
+    private final HolidaySearchCache holidaySearchCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     /**
-     * 실제로 DB에 공휴일을 저장하는 메서드
-     *
-     * @param holidays 저장할 공휴일 리스트
-     * @return 저장한 공휴일 갯수
+     * 현재 DB 의 국가·공휴일·동기화 상태로 스냅샷 생성
+     * @return 스냅샷 (국가 코드 순)
+     */
+    @Transactional(readOnly = true)
+    public HolidaySnapshot snapshot() {
+        Map<String, List<HolidaySaveRequest>> holidays = holidaySnapshotRepository.findAllHolidaysByCountry();
+        Map<String, List<HolidaySnapshot.SyncState>> syncStates = holidaySnapshotRepository.findAllSyncStatesByCountry();
+        List<HolidaySnapshot.CountrySection> countries = countryRepository.findAll().stream()
+            .sorted(Comparator.comparing(Country::getCountryCode))
+            .map(country -> new HolidaySnapshot.CountrySection(country.getCountryCode(), country.getName(),
+                holidays.getOrDefault(country.getCountryCode(), List.of()),
+                syncStates.getOrDefault(country.getCountryCode(), List.of())))
+            .toList();
+        return new HolidaySnapshot(System.currentTimeMillis(), countries);
+    }
+
+    /**
+     * 스냅샷의 국가·공휴일·동기화 상태를 빈 DB 에 한 번에 저장 (공휴일·동기화 상태는 JDBC 배치)
+     * - 이미 국가 데이터가 있으면 저장하지 않음
+     * @param snapshot 스냅샷
+     * @return 저장했으면 true
+     */
+    @Transactional
+    public boolean restore(HolidaySnapshot snapshot) {
+        if (countryRepository.count() > 0) {
+            return false;
+        }
+
+        List<Country> countries = countryRepository.saveAll(snapshot.countries().stream()
+            .map(section -> new Country(section.countryCode(), section.name()))
+            .toList());
+        // 국가를 먼저 반영해야 공휴일·동기화 상태(JDBC)의 외래키를 만족
+        countryRepository.flush();
+
+        List<Holiday> holidays = new ArrayList<>(snapshot.holidayCount());
+        for (int i = 0; i < countries.size(); i++) {
+            Country country = countries.get(i);
+            HolidaySnapshot.CountrySection section = snapshot.countries().get(i);
+            for (HolidaySaveRequest request : section.holidays()) {
+                holidays.add(new Holiday(request.date(), request.localName(), request.name(), country,
+                    request.fixed(), request.global(), request.counties(), request.launchYear(), request.types()));
+            }
+            if (!section.syncStates().isEmpty()) {
+                holidaySnapshotRepository.insertSyncStates(country.getId(), section.syncStates());
+            }
+        }
+        holidayJdbcRepository.insertAll(holidays);
+
+        // 커밋 이후 인메모리 인덱스 재구성
+        snapshot.countries().forEach(section ->
+            eventPublisher.publishEvent(new HolidayDataChangedEvent(section.countryCode())));
+        return true;
+    }
+
+    /**
+     * 연도들의 마지막 외부 API 응답 검증값을 한 번에 조회 (조건부 요청용)
+     * - 국가·연도마다 조회하지 않도록 수집 시작 시 한 번만 호출
+     * @param years 연도 목록
+     * @return (국가, 연도) 별 저장된 검증값 (동기화 이력이 없으면 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<HolidaySyncKey, HolidayUpstreamValidators> findUpstreamValidators(Collection<Integer> years) {
+        Map<HolidaySyncKey, HolidayUpstreamValidators> validators = new HashMap<>();
+        for (HolidaySyncState state : holidaySyncStateRepository.findAllWithCountryByHolidayYearIn(years)) {
+            validators.put(new HolidaySyncKey(state.getCountry().getCountryCode(), state.getHolidayYear()),
+                new HolidayUpstreamValidators(state.getUpstreamEtag(), state.getUpstreamLastModified(),
+                    state.getPayloadHash()));
+        }
+        return validators;
+    }
+
+    /**
+     * 여러 국가·연도의 쓰기 요청을 하나의 트랜잭션으로 반영하는 메서드
+     * - 수집 단계에서 모은 요청을 저장 단계가 일정 크기/시간 단위로 묶어서 호출
+     * - 하나라도 실패하면 전체 롤백 (호출하는 쪽에서 건별로 다시 시도)
+     * @param commands 쓰기 요청 목록
+     * @return 요청 순서와 같은 동기화 결과
      */
     @Transactional
-    public int saveHolidays(List<Holiday> holidays) {
-        holidayRepository.saveAll(holidays);
-        return holidays.size();
+    public List<HolidaySyncResult> syncHolidaysBatch(List<HolidaySyncCommand> commands) {
+        List<HolidaySyncResult> results = new ArrayList<>(commands.size());
+        for (HolidaySyncCommand command : commands) {
+            if (command.validatorsOnly()) {
+                updateUpstreamValidators(command.country(), command.year(), command.validators());
+                results.add(HolidaySyncResult.skipped());
+            } else {
+                results.add(syncHolidays(command.country(), command.year(), command.holidays(), command.validators()));
+            }
+        }
+        return results;
+    }
+
+    // 본문은 같고 ETag / Last-Modified 만 바뀐 응답의 검증값만 갱신 (공휴일 데이터는 쓰지 않음)
+    private void updateUpstreamValidators(Country country, int year, HolidayUpstreamValidators validators) {
+        holidaySyncStateRepository.findByCountry_IdAndHolidayYear(country.getId(), year)
+            .ifPresent(state -> state.updateUpstream(validators.etag(), validators.lastModified(),
+                validators.payloadHash()));
+    }
+
+    /**
+     * 외부 API에서 받은 국가·연도 공휴일로 DB를 동기화하는 메서드
+     * - 내용 해시가 마지막 동기화와 같으면 공휴일은 쓰지 않음
+     * - 다르면 자연키(국가, 날짜, 이름) 기준으로 달라진 레코드만 추가/수정/삭제
+     *
+     * @param country  동기화할 국가
+     * @param year     동기화할 연도
+     * @param requests 외부 API 공휴일 목록
+     * @param validators 응답 검증값 (다음 조건부 요청용, 없으면 null)
+     * @return 동기화 결과
+     */
+    private HolidaySyncResult syncHolidays(Country country, int year, List<HolidaySaveRequest> requests,
+        HolidayUpstreamValidators validators) {
+        String contentHash = HolidayContentHasher.hash(requests);
+        HolidaySyncState syncState = holidaySyncStateRepository
+            .findByCountry_IdAndHolidayYear(country.getId(), year)
+            .orElse(null);
+
+        if (syncState != null && syncState.getContentHash().equals(contentHash)) {
+            // 내용은 같아도 응답 원문이나 검증값이 달라졌을 수 있으므로 다음 조건부 요청을 위해 보관
+            if (validators != null) {
+                syncState.updateUpstream(validators.etag(), validators.lastModified(), validators.payloadHash());
+            }
+            return HolidaySyncResult.skipped();
+        }
+
+        // 외부 API 데이터를 자연키 기준으로 정리 (같은 키가 여러 번 오면 counties/types 병합)
+        Map<HolidayKey, Holiday> fetched = new LinkedHashMap<>();
+        mergeByKey(requests).forEach((key, request) -> fetched.put(key,
+            new Holiday(request.date(), request.localName(), request.name(), country, request.fixed(),
+                request.global(), request.counties(), request.launchYear(), request.types())));
+
+        // 기존 데이터와 비교 (같은 키의 중복 레코드는 첫 번째만 남기고 삭제)
+        Map<HolidayKey, Holiday> existing = new LinkedHashMap<>();
+        List<UUID> deleteIds = new ArrayList<>();
+        for (Holiday holiday : holidayRepository.findAllByCountry_IdAndDateBetween(country.getId(),
+            LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+            HolidayKey key = new HolidayKey(holiday.getDate(), holiday.getName());
+            if (!fetched.containsKey(key) || existing.putIfAbsent(key, holiday) != null) {
+                deleteIds.add(holiday.getId());
+            }
+        }
+
+        List<Holiday> inserts = new ArrayList<>();
+        int updated = 0;
+        for (Map.Entry<HolidayKey, Holiday> entry : fetched.entrySet()) {
+            Holiday current = existing.get(entry.getKey());
+            if (current == null) {
+                inserts.add(entry.getValue());
+            } else if (current.updateContent(entry.getValue())) {
+                updated++;
+            }
+        }
+
+        // 삭제 → 추가 순으로 실행해야 자연키 유니크 제약에 걸리지 않음 (수정은 커밋 시 flush)
+        if (!deleteIds.isEmpty()) {
+            holidayRepository.deleteAllByIdInBatch(deleteIds);
+        }
+        int inserted = holidayJdbcRepository.insertAll(inserts);
+
+        boolean newYear = syncState == null;
+        if (newYear) {
+            syncState = holidaySyncStateRepository.save(new HolidaySyncState(country, year, contentHash));
+        } else {
+            syncState.updateContentHash(contentHash);
+        }
+        if (validators != null) {
+            syncState.updateUpstream(validators.etag(), validators.lastModified(), validators.payloadHash());
+        }
+
+        HolidaySyncResult result = new HolidaySyncResult(inserted, updated, deleteIds.size(), false);
+        // 처음 적재한 연도는 공휴일이 없어도 달력 인덱스에 적재 연도로 반영
+        if (result.written() > 0 || newYear) {
+            eventPublisher.publishEvent(new HolidayDataChangedEvent(country.getCountryCode()));
+        }
+        return result;
+    }
+
+    private Map<HolidayKey, HolidaySaveRequest> mergeByKey(List<HolidaySaveRequest> requests) {
+        Map<HolidayKey, HolidaySaveRequest> merged = new LinkedHashMap<>();
+        for (HolidaySaveRequest request : requests) {
+            merged.merge(new HolidayKey(request.date(), request.name()), request, (a, b) ->
+                new HolidaySaveRequest(a.date(), a.localName(), a.name(), a.countryCode(), a.fixed(),
+                    a.global() || b.global(), union(a.counties(), b.counties()), a.launchYear(),
+                    union(a.types(), b.types())));
+        }
+        return merged;
+    }
+
+    private List<String> union(List<String> a, List<String> b) {
+        LinkedHashSet<String> values = new LinkedHashSet<>();
+        if (a != null) values.addAll(a);
+        if (b != null) values.addAll(b);
+        return List.copyOf(values);
+    }
+
+    // 공휴일 자연키 (국가는 호출 단위로 고정)
+    private record HolidayKey(LocalDate date, String name) {
+
     }
 
     /**
      * 특정 연도, 국가의 공휴일 레코드 전체 삭제 메서드
+     * - (국가, 기간) 조건의 DELETE 한 문장으로 삭제
+     * - 다음 재동기화가 해시 비교로 건너뛰지 않도록 해당 연도의 동기화 상태도 삭제
      *
      * @param countryCode 삭제하고자 하는 국가 코드
      * @param year        삭제할 연도
      * @return 삭제한 레코드 갯수
      */
     @Transactional
-    public void delete(String countryCode, Integer year) {
+    public int delete(String countryCode, Integer year) {
         log.info("[HolidayController] deleting holiday");
         // 삭제할 연도, 국가의 국가코드를 통해 검색하여 없을경우 예외 처리
         Country country = countryRepository.findByCountryCode(countryCode)
             .orElseThrow(CountryCodeNotFoundException::new);
 
-        // 공휴일 테이블에서 해당하는 국가 id를 가진 공휴일리스트에서 삭제할 연도가 일치하는지 검색후 id로 매핑
-        List<UUID> deleteList = holidayRepository.findAllByCountry_Id(country.getId())
-            .stream()
-            .filter(holiday -> holiday.getDate().getYear() == year)
-            .map(Holiday::getId)
-            .toList();
+        int deleted = holidayRepository.deleteByCountryIdAndDateBetween(country.getId(),
+            LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        holidaySyncStateRepository.deleteByCountryIdAndHolidayYear(country.getId(), year);
 
-        holidayRepository.deleteAllById(deleteList);
-        log.info("[HolidayController] CountryCode: {}, Deleted Record Size:{}", countryCode,
-            deleteList.size());
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new HolidayDataChangedEvent(countryCode));
+        }
+        log.info("[HolidayController] CountryCode: {}, Deleted Record Size:{}", countryCode, deleted);
+        return deleted;
     }
 
     /**
      * 커서 페이지네이션을 통해 검색된 공휴일 결과를 반환하는 메서드
-     * @param cursor 커서
-     * @param idAfter 다음 페이지 첫번째 항목의 UUID
+     * @param cursor 이전 응답의 nextCursor 토큰
+     * @param seekDate 첫 페이지를 시작할 날짜 (date 정렬에서만 사용)
      * @param size 한 페이지가 가지는 user의 수
      * @param sortBy 정렬자
      * @param sortDirection 정렬 방향
@@ -78,50 +298,87 @@ public class HolidayDataService {
      * @param toDate (~까지)
      * @param holidayType 공휴일 타입
      * @param nameLike 해당 단어가 포함된 공휴일 검색
+     * @param includeTotal 전체 갯수 포함 여부 (null 이면 첫 페이지에서만 포함)
      * @return 페이지네이션으로 검색된 공휴일 리스트 및 다음 커서 인덱스
      */
-    @Transactional(readOnly = true)
-    public HolidayPageResponse search(String cursor, UUID idAfter,
+    public HolidayPageResponse search(String cursor, LocalDate seekDate,
         String countryCode, LocalDate fromDate, LocalDate toDate, String holidayType, Integer size,
-        String sortBy, String sortDirection, String nameLike){
-        log.info("[HolidayController] searching holiday");
-        List<HolidayDto> allByCursor = holidayRepositoryCustom.findHolidaysWithCursor(cursor, idAfter, size+1,
-                sortBy, sortDirection, countryCode, fromDate, toDate,holidayType,nameLike)
-            .stream()
-            .map(holidayMapper::toDto)
-            .collect(Collectors.toList());
+        String sortBy, String sortDirection, String nameLike, Boolean includeTotal){
+        // 같은 조건의 검색은 캐시된 페이지 사용 (데이터 변경 시 해당 국가 단위로 무효화)
+        // 캐시 적중 시에는 트랜잭션·커넥션 없이 반환하고, 조회할 때만 읽기 전용 트랜잭션을 염
+        boolean withTotal = includeTotal != null ? includeTotal : cursor == null || cursor.isBlank();
+        HolidaySearchCache.SearchKey key = new HolidaySearchCache.SearchKey(
+            blankToNull(countryCode), fromDate, toDate,
+            HolidayTypeFilter.normalize(holidayType),
+            nameLike == null || nameLike.isBlank() ? null : Holiday.normalizeName(nameLike),
+            blankToNull(cursor), seekDate, size, sortBy, sortDirection, withTotal);
+        return holidaySearchCache.get(key, () -> readOnly(() -> searchPage(cursor, seekDate, countryCode,
+            fromDate, toDate, holidayType, size, sortBy, sortDirection, nameLike, withTotal)));
+    }
 
-        // 검색된 리스트 사이즈(size+1 검색)가 size 보다 클경우 hasNext true
-        boolean hasNext = allByCursor.size() > size;
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
 
-        String nextCursor = null;
-        UUID nextIdAfter = null;
-        if(hasNext) {
-            // 마지막 인덱스 추출(다음)
-            HolidayDto holidayDto = allByCursor.getLast();
-
-            // 다음 인덱스 UUID
-            nextIdAfter = holidayDto.id();
-
-            // 다음 커서
-            if(sortBy.equals("date")){
-                nextCursor = holidayDto.date().toString();
-            } else{
-                nextCursor = holidayDto.name();
+    private HolidayPageResponse searchPage(String cursor, LocalDate seekDate,
+        String countryCode, LocalDate fromDate, LocalDate toDate, String holidayType, Integer size,
+        String sortBy, String sortDirection, String nameLike, boolean withTotal){
+        log.info("[HolidayController] searching holiday");
+
+        // 커서 토큰은 같은 정렬 조건으로 만든 것만 허용
+        HolidayCursor decodedCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            decodedCursor = HolidayCursor.decode(cursor);
+            if (!decodedCursor.matches(sortBy, sortDirection)) {
+                throw new InvalidRequestException("커서의 정렬 조건이 요청과 일치하지 않습니다");
             }
+        }
+        if (seekDate != null && !"date".equals(sortBy)) {
+            throw new InvalidRequestException("seekDate 는 date 정렬에서만 사용할 수 있습니다");
+        }
 
+        // nameLike 는 이름 색인으로 먼저 id 를 찾고, 색인으로 풀 수 없을 때만 LIKE 조건 사용
+        Set<UUID> nameMatchIds = null;
+        if (nameLike != null && !nameLike.isBlank()) {
+            nameMatchIds = holidayNameIndex.findIds(countryCode, nameLike).orElse(null);
+            if (nameMatchIds != null && nameMatchIds.isEmpty()) {
+                return new HolidayPageResponse(new ArrayList<>(), null, false, 0L, sortBy, sortDirection);
+            }
         }
 
-        // 전체 갯수
-        Long totalCount = holidayRepositoryCustom.countHolidays(countryCode, fromDate, toDate, holidayType, nameLike);
+        // 엔티티를 거치지 않고 DTO 로 바로 조회 (결과 리스트는 수정 가능해야 하므로 복사)
+        List<HolidayDto> allByCursor = new ArrayList<>(holidayRepositoryCustom.findHolidayDtosWithCursor(
+            decodedCursor, seekDate, size+1, sortBy, sortDirection, countryCode, fromDate, toDate, holidayType, nameLike,
+            nameMatchIds));
+
+        // 검색된 리스트 사이즈(size+1 검색)가 size 보다 클경우 hasNext true
+        boolean hasNext = allByCursor.size() > size;
 
         // 다음 페이지가 존재할 때만 limit+1을 검색했기때문에 마지막 인덱스 제거
         if(hasNext) allByCursor.removeLast();
 
-        log.info("[HolidayController] Searched Record Size:{}", totalCount);
-        return new HolidayPageResponse(allByCursor,nextCursor,nextIdAfter,hasNext,totalCount,sortBy,sortDirection);
-    }
+        // 다음 커서 (현재 페이지 마지막 레코드 기준, 다음 페이지는 이 레코드 바로 다음부터)
+        String nextCursor = null;
+        if(hasNext && !allByCursor.isEmpty()) {
+            nextCursor = HolidayCursor.after(allByCursor.getLast(), sortBy, sortDirection).encode();
+        }
 
+        // 전체 갯수 (요청한 경우에만, 같은 필터는 캐시된 값 사용)
+        Long totalCount = null;
+        if (withTotal) {
+            Set<UUID> matchIds = nameMatchIds;
+            totalCount = holidayCountCache.getOrLoad(countryCode, fromDate, toDate, holidayType, nameLike,
+                () -> holidayRepositoryCustom.countHolidays(countryCode, fromDate, toDate, holidayType, nameLike,
+                    matchIds));
+        }
 
+        log.info("[HolidayController] Searched Record Size:{}", allByCursor.size());
+        return new HolidayPageResponse(allByCursor,nextCursor,hasNext,totalCount,sortBy,sortDirection);
+    }
 
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 }
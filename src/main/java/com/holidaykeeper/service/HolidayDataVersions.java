@@ -0,0 +1,94 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidayDataVersion;
+import com.holidaykeeper.event.HolidayDataChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 국가별·전체 공휴일 데이터 버전 관리
+ * - 공휴일 데이터가 변경(커밋)될 때마다 해당 국가의 버전과 전체 버전을 올림
+ * - ETag 값에 기동 시각을 함께 넣어 재기동 후 같은 버전 번호가 다시 쓰여도 구분되도록 함
+ */
+@Slf4j
+@Component
+public class HolidayDataVersions {
+
+    private final Instant startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final String epoch = Long.toString(startedAt.getEpochSecond(), 36);
+
+    private final Map<String, HolidayDataVersion> versions = new ConcurrentHashMap<>();
+    private final AtomicReference<HolidayDataVersion> globalVersion =
+        new AtomicReference<>(new HolidayDataVersion(0, startedAt));
+
+    /**
+     * 국가의 현재 데이터 버전 조회 (변경 이력이 없으면 기동 시각 기준 0 버전)
+     * @param countryCode 국가코드
+     * @return 데이터 버전
+     */
+    public HolidayDataVersion of(String countryCode) {
+        return versions.getOrDefault(countryCode, new HolidayDataVersion(0, startedAt));
+    }
+
+    /**
+     * 전체 국가의 현재 데이터 버전 조회 (어느 국가든 변경되면 증가)
+     * @return 데이터 버전
+     */
+    public HolidayDataVersion global() {
+        return globalVersion.get();
+    }
+
+    /**
+     * 국가코드가 있으면 국가 버전, 없으면 전체 버전 조회
+     * @param countryCode 국가코드 (null 가능)
+     * @return 데이터 버전
+     */
+    public HolidayDataVersion scopeOf(String countryCode) {
+        return countryCode == null || countryCode.isBlank() ? global() : of(countryCode);
+    }
+
+    /**
+     * 데이터 버전과 요청으로 만든 ETag
+     * - 같은 요청이라도 데이터 버전이 바뀌거나 재기동되면 다른 값이 됨
+     * - 요청 값은 길이를 붙여 이어 쓴 뒤 SHA-256 으로 줄여, 다른 요청이 같은 태그를 받지 않도록 함
+     * @param version 응답이 의존하는 데이터 버전
+     * @param kind 응답 종류 (search, ics 등)
+     * @param parts 요청을 구분하는 값 (정규화된 파라미터, null 가능)
+     * @return 따옴표로 감싼 ETag
+     */
+    public String etag(HolidayDataVersion version, String kind, Object... parts) {
+        StringBuilder canonical = new StringBuilder(kind);
+        for (Object part : parts) {
+            if (part == null) {
+                canonical.append("|-");
+            } else {
+                String value = part.toString();
+                canonical.append('|').append(value.length()).append(':').append(value);
+            }
+        }
+        String digest = HolidayContentHasher.sha256(canonical.toString().getBytes(StandardCharsets.UTF_8));
+        return "\"" + epoch + "-" + version.version() + "-" + digest + "\"";
+    }
+
+    /**
+     * 공휴일 데이터가 변경된 국가의 버전 증가 (커밋 이후 실행)
+     * @param event 공휴일 데이터 변경 이벤트
+     */
+    @Order(HolidayDataChangedEvent.VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        HolidayDataVersion changed = versions.compute(event.countryCode(), (countryCode, current) ->
+            new HolidayDataVersion(current == null ? 1 : current.version() + 1, now));
+        globalVersion.updateAndGet(current -> new HolidayDataVersion(current.version() + 1, now));
+        log.debug("[HolidayDataVersions] {} -> version {}", event.countryCode(), changed.version());
+    }
+}
@@ -0,0 +1,148 @@
+package com.holidaykeeper.service;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeper.config.HolidayExportProperties;
+import com.holidaykeeper.dto.HolidayDto;
+import com.holidaykeeper.dto.HolidayExportFormat;
+import com.holidaykeeper.repository.HolidayRepositoryCustom;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 공휴일 대량 내보내기 서비스
+ * - DB 커서에서 읽은 행을 바로 응답 스트림에 기록 (행 수와 관계없이 메모리 사용량 일정)
+ * - gzip 요청 시 압축하면서 기록
+ */
+@Slf4j
+@Service
+public class HolidayExportService {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final byte[] NEW_LINE = {'\n'};
+    private static final String CSV_HEADER =
+        "id,date,localName,name,countryCode,fixed,global,counties,launchYear,types\n";
+
+    private final HolidayRepositoryCustom holidayRepositoryCustom;
+    private final HolidayNameIndex holidayNameIndex;
+    private final HolidayExportProperties exportProperties;
+    private final ObjectWriter holidayWriter;
+
+    public HolidayExportService(HolidayRepositoryCustom holidayRepositoryCustom, HolidayNameIndex holidayNameIndex,
+        HolidayExportProperties exportProperties, ObjectMapper objectMapper) {
+        this.holidayRepositoryCustom = holidayRepositoryCustom;
+        this.holidayNameIndex = holidayNameIndex;
+        this.exportProperties = exportProperties;
+        this.holidayWriter = objectMapper.writerFor(HolidayDto.class);
+    }
+
+    /**
+     * 응답을 쓰기 시작하기 전에 필터를 검증하고 nameLike 를 이름 색인으로 해석하는 메서드
+     * (스트리밍이 시작된 뒤에는 오류 응답을 돌려줄 수 없으므로 미리 확인)
+     * @param countryCode 국가 코드
+     * @param holidayType 공휴일 타입
+     * @param nameLike 해당 단어가 포함된 공휴일 검색
+     * @return 이름 색인으로 찾은 id (null 이면 LIKE 조건 사용)
+     */
+    public Set<UUID> prepare(String countryCode, String holidayType, String nameLike) {
+        HolidayTypeFilter.normalize(holidayType);
+        if (nameLike == null || nameLike.isBlank()) {
+            return null;
+        }
+        return holidayNameIndex.findIds(countryCode, nameLike).orElse(null);
+    }
+
+    /**
+     * 필터에 해당하는 공휴일을 날짜, id 순으로 응답 스트림에 기록하는 메서드
+     * @param format 내보내기 형식
+     * @param gzip gzip 압축 여부
+     * @param out 응답 스트림
+     * @param nameMatchIds prepare 로 찾은 id
+     * @return 기록한 레코드 수
+     */
+    @Transactional(readOnly = true)
+    public long export(HolidayExportFormat format, boolean gzip, OutputStream out, String countryCode,
+        LocalDate fromDate, LocalDate toDate, String holidayType, String nameLike, Set<UUID> nameMatchIds)
+        throws IOException {
+        log.info("[HolidayExportService] Exporting holidays as {} (gzip={})", format, gzip);
+
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, BUFFER_SIZE, true) : null;
+        OutputStream sink = new BufferedOutputStream(gzipStream != null ? gzipStream : out, BUFFER_SIZE);
+
+        if (format == HolidayExportFormat.CSV) {
+            sink.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        long written = 0;
+        // 이름 색인에서 일치하는 id 가 없으면 조회하지 않음
+        if (nameMatchIds == null || !nameMatchIds.isEmpty()) {
+            try (Stream<HolidayDto> rows = holidayRepositoryCustom.streamHolidayDtos(countryCode, fromDate, toDate,
+                holidayType, nameLike, nameMatchIds, exportProperties.fetchSize())) {
+                Iterator<HolidayDto> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writeRow(format, iterator.next(), sink);
+                    // 일정 행마다 내보내서 클라이언트가 읽은 만큼 바로 받도록 함
+                    if (++written % exportProperties.flushRows() == 0) {
+                        sink.flush();
+                    }
+                }
+            }
+        }
+
+        sink.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        out.flush();
+
+        log.info("[HolidayExportService] Exported {} holidays", written);
+        return written;
+    }
+
+    private void writeRow(HolidayExportFormat format, HolidayDto holiday, OutputStream sink) throws IOException {
+        if (format == HolidayExportFormat.NDJSON) {
+            sink.write(holidayWriter.writeValueAsBytes(holiday));
+            sink.write(NEW_LINE);
+            return;
+        }
+        StringBuilder line = new StringBuilder(128)
+            .append(holiday.id()).append(',')
+            .append(holiday.date()).append(',')
+            .append(csv(holiday.localName())).append(',')
+            .append(csv(holiday.name())).append(',')
+            .append(holiday.countryCode()).append(',')
+            .append(holiday.fixed()).append(',')
+            .append(holiday.global()).append(',')
+            .append(csv(join(holiday.counties()))).append(',')
+            .append(holiday.launchYear() == null ? "" : holiday.launchYear()).append(',')
+            .append(csv(join(holiday.types()))).append('\n');
+        sink.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String join(List<String> values) {
+        return values == null ? "" : String.join(";", values);
+    }
+
+    // RFC 4180 : 구분자, 따옴표, 줄바꿈이 있는 값은 큰따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,162 @@
+package com.holidaykeeper.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.holidaykeeper.dto.HolidayDataVersion;
+import com.holidaykeeper.dto.HolidayDto;
+import com.holidaykeeper.dto.HolidayIcsFeed;
+import com.holidaykeeper.repository.HolidayRepositoryCustom;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 국가별 공휴일 iCalendar(.ics) 구독 피드 서비스
+ * - 피드 본문은 (국가, 타입, 지역) 별로 데이터 버전당 한 번만 만들어 byte[] 로 보관
+ * - 데이터 버전이 바뀌지 않았으면 DB 조회 없이 보관된 본문과 ETag 를 그대로 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidayIcsService {
+
+    private static final int MAX_FEEDS = 1_000;
+    // RFC 5545 : 한 줄은 CRLF 제외 75 octet 이하, 넘으면 CRLF + 공백으로 접음
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIMESTAMP =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final HolidayRepositoryCustom holidayRepositoryCustom;
+    private final HolidayCalendarIndex holidayCalendarIndex;
+    private final HolidayDataVersions holidayDataVersions;
+
+    // 키에 데이터 버전이 들어가므로 이전 버전 본문은 다시 조회되지 않고 크기 제한에 따라 밀려남
+    private final AsyncCache<FeedKey, HolidayIcsFeed> feeds = Caffeine.newBuilder()
+        .maximumSize(MAX_FEEDS)
+        .buildAsync();
+
+    /**
+     * 국가 공휴일 피드 조회 (현재 데이터 버전으로 만든 본문이 있으면 그대로 반환)
+     * @param countryCode 국가코드
+     * @param holidayType 공휴일 타입 (null 이면 전체)
+     * @param county 지역 코드 (지정하면 전국 공휴일 + 해당 지역 공휴일만)
+     * @return 피드 본문과 ETag, Last-Modified
+     */
+    public HolidayIcsFeed getFeed(String countryCode, String holidayType, String county) {
+        String code = countryCode.toUpperCase(Locale.ROOT);
+        holidayCalendarIndex.getCalendar(code);
+        String type = HolidayTypeFilter.normalize(holidayType);
+        String region = county == null || county.isBlank() ? null : county.trim().toUpperCase(Locale.ROOT);
+
+        // 버전을 먼저 읽고 조회해야, 조회 도중 변경이 커밋되어도 다음 요청에서 다시 만들어짐
+        HolidayDataVersion version = holidayDataVersions.of(code);
+        FeedKey key = new FeedKey(code, type, region, version.version());
+
+        // 캐시에는 빈 future 만 넣고 본문은 캐시 잠금 밖에서 만듦 (같은 키의 다른 요청은 이 future 를 기다림)
+        CompletableFuture<HolidayIcsFeed> created = new CompletableFuture<>();
+        CompletableFuture<HolidayIcsFeed> feed = feeds.get(key, (k, executor) -> created);
+        if (feed == created) {
+            try {
+                HolidayIcsFeed rendered = render(key, version);
+                created.complete(rendered);
+                return rendered;
+            } catch (RuntimeException e) {
+                // 실패한 future 는 캐시에서 자동으로 제거됨
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return feed.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private HolidayIcsFeed render(FeedKey key, HolidayDataVersion version) {
+        List<HolidayDto> holidays = holidayRepositoryCustom
+            .findHolidayDtosByCountry(key.countryCode(), key.holidayType())
+            .stream()
+            .filter(holiday -> key.county() == null || holiday.global() || holiday.counties().contains(key.county()))
+            .toList();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + holidays.size() * 320);
+        String stamp = TIMESTAMP.format(version.lastModified());
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//Holiday Keeper//Holidays " + key.countryCode() + "//EN");
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "METHOD:PUBLISH");
+        line(out, "X-WR-CALNAME:" + text(key.countryCode() + " Holidays"));
+        for (HolidayDto holiday : holidays) {
+            line(out, "BEGIN:VEVENT");
+            line(out, "UID:" + holiday.id() + "@holiday-keeper");
+            line(out, "DTSTAMP:" + stamp);
+            line(out, "DTSTART;VALUE=DATE:" + DATE.format(holiday.date()));
+            line(out, "DTEND;VALUE=DATE:" + DATE.format(holiday.date().plusDays(1)));
+            line(out, "SUMMARY:" + text(holiday.localName() != null ? holiday.localName() : holiday.name()));
+            line(out, "DESCRIPTION:" + text(holiday.name()));
+            if (!holiday.types().isEmpty()) {
+                line(out, "CATEGORIES:" + String.join(",", holiday.types().stream().map(this::text).toList()));
+            }
+            line(out, "TRANSP:TRANSPARENT");
+            line(out, "END:VEVENT");
+        }
+        line(out, "END:VCALENDAR");
+
+        String etag = holidayDataVersions.etag(version, "ics", key.countryCode(), key.holidayType(),
+            key.county());
+        log.info("[HolidayIcsService] Rendered {} feed ({} events, version {})",
+            key.countryCode(), holidays.size(), version.version());
+        return new HolidayIcsFeed(out.toByteArray(), etag, version.lastModified());
+    }
+
+    /**
+     * 한 줄을 75 octet 단위로 접어서 기록 (UTF-8 멀티바이트 문자는 나누지 않음)
+     */
+    private void line(ByteArrayOutputStream out, String contentLine) {
+        byte[] bytes = contentLine.getBytes(StandardCharsets.UTF_8);
+        int start = 0;
+        int limit = MAX_LINE_OCTETS;
+        while (bytes.length - start > limit) {
+            int end = start + limit;
+            // UTF-8 연속 바이트(10xxxxxx) 앞에서 자르지 않도록 문자 시작 위치까지 당김
+            while ((bytes[end] & 0xC0) == 0x80) {
+                end--;
+            }
+            out.write(bytes, start, end - start);
+            out.writeBytes(CRLF);
+            out.write(' ');
+            start = end;
+            limit = MAX_LINE_OCTETS - 1;
+        }
+        out.write(bytes, start, bytes.length - start);
+        out.writeBytes(CRLF);
+    }
+
+    // RFC 5545 TEXT 값 이스케이프
+    private String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\")
+            .replace(";", "\\;")
+            .replace(",", "\\,")
+            .replace("\r\n", "\\n")
+            .replace("\n", "\\n");
+    }
+
+    private record FeedKey(String countryCode, String holidayType, String county, long version) {
+
+    }
+}
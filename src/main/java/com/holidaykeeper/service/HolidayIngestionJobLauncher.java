@@ -0,0 +1,136 @@
+package com.holidaykeeper.service;
+
+import static com.holidaykeeper.config.HolidayIngestionJobConfig.END_YEAR;
+import static com.holidaykeeper.config.HolidayIngestionJobConfig.REQUEST_ID;
+import static com.holidaykeeper.config.HolidayIngestionJobConfig.START_YEAR;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공휴일 수집 작업(holidayIngestionJob) 실행
+ * - 같은 연도 범위의 마지막 실행이 실패·중단되었으면 같은 파라미터로 재시작 (마지막으로 커밋된 청크 다음부터)
+ * - 이전 프로세스가 죽으며 STARTED 로 남긴 실행은 실패로 정리한 뒤 재시작
+ *   (spring.datasource 가 파일/외부 DB 일 때만 해당, 기본 인메모리 H2 는 프로세스와 함께 기록이 사라지므로 같은 프로세스 안의 재시작만 가능)
+ * - 그 외에는 run.id 를 올려 새 작업으로 실행
+ * - 작업은 한 번에 하나만 실행 (애플리케이션 인스턴스 하나 기준)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayIngestionJobLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final Job holidayIngestionJob;
+
+    /**
+     * 연도 범위의 모든 국가 공휴일 수집 작업을 실행하고 종료까지 대기
+     * @param startYear 시작 연도
+     * @param endYear 종료 연도
+     * @return 작업 실행 결과
+     */
+    public JobExecution launch(int startYear, int endYear) {
+        return launch(startYear, endYear, null);
+    }
+
+    /**
+     * 비동기 수집 작업 ID 를 붙여 수집 작업을 실행하고 종료까지 대기
+     * @param startYear 시작 연도
+     * @param endYear 종료 연도
+     * @param requestId 비동기 수집 작업 ID (진행 상황 조회용, 없으면 null)
+     * @return 작업 실행 결과
+     */
+    public synchronized JobExecution launch(int startYear, int endYear, String requestId) {
+        JobParameters restartable = restartableParameters(startYear, endYear);
+        JobParameters base = restartable != null ? restartable
+            : new JobParametersBuilder(jobExplorer).getNextJobParameters(holidayIngestionJob).toJobParameters();
+
+        // 식별 파라미터만 이어받음 (재시작이면 같은 작업 인스턴스, 아니면 다음 run.id)
+        JobParametersBuilder builder = new JobParametersBuilder();
+        base.getParameters().forEach((key, parameter) -> {
+            if (parameter.isIdentifying()) {
+                builder.addJobParameter(key, parameter);
+            }
+        });
+        if (restartable == null) {
+            builder.addLong(START_YEAR, (long) startYear)
+                .addLong(END_YEAR, (long) endYear);
+        }
+        if (requestId != null) {
+            builder.addString(REQUEST_ID, requestId, false);
+        }
+        JobParameters parameters = builder.toJobParameters();
+
+        try {
+            JobExecution execution = jobLauncher.run(holidayIngestionJob, parameters);
+            log.info("[HolidayIngestionJobLauncher] Job {} {}~{}: {}", execution.getId(), startYear, endYear,
+                execution.getStatus());
+            return execution;
+        } catch (JobExecutionException e) {
+            throw new IllegalStateException("공휴일 수집 작업을 실행할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 같은 연도 범위의 마지막 실행이 끝나지 못했으면 그 파라미터, 아니면 null
+    private JobParameters restartableParameters(int startYear, int endYear) {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(holidayIngestionJob.getName());
+        if (lastInstance == null) {
+            return null;
+        }
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null) {
+            return null;
+        }
+        JobParameters lastParameters = lastExecution.getJobParameters();
+        if (!Objects.equals(lastParameters.getLong(START_YEAR), (long) startYear)
+            || !Objects.equals(lastParameters.getLong(END_YEAR), (long) endYear)) {
+            return null;
+        }
+
+        BatchStatus status = lastExecution.getStatus();
+        if (status.isRunning()) {
+            // launch 는 동기화되어 있으므로 실행 중으로 남은 기록은 이전 JVM 이 종료되며 남긴 것
+            markAbandonedAsFailed(lastExecution);
+        } else if (status != BatchStatus.FAILED && status != BatchStatus.STOPPED) {
+            return null;
+        }
+        log.info("[HolidayIngestionJobLauncher] Restarting job instance {} ({}~{}) from last commit",
+            lastInstance.getInstanceId(), startYear, endYear);
+        return lastParameters;
+    }
+
+    private void markAbandonedAsFailed(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED.addExitDescription("이전 프로세스 종료로 중단됨"));
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+        log.warn("[HolidayIngestionJobLauncher] Job execution {} was left running by a previous process; "
+            + "marked as failed", execution.getId());
+    }
+}
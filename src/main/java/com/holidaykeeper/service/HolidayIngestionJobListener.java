@@ -0,0 +1,147 @@
+package com.holidaykeeper.service;
+
+import static com.holidaykeeper.config.HolidayIngestionJobConfig.END_YEAR;
+import static com.holidaykeeper.config.HolidayIngestionJobConfig.REQUEST_ID;
+import static com.holidaykeeper.config.HolidayIngestionJobConfig.START_YEAR;
+import static com.holidaykeeper.config.HolidayIngestionJobConfig.WORKER_STEP_NAME;
+
+import com.holidaykeeper.dto.HolidaySyncKey;
+import com.holidaykeeper.dto.HolidayUpstreamValidators;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.repository.CountryRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 작업(holidayIngestionJob) 실행 단위 상태 관리
+ * - 시작 : 국가 목록과 마지막 응답 검증값을 한 번에 조회하고 IngestionRun 시작 (모든 파티션이 공유)
+ *   재시작이면 이전 실행에서 커밋된 (국가, 연도) 를 처리된 것으로 기록 (완료된 파티션은 다시 실행되지 않으므로)
+ * - 종료 : 실행 보고서를 남기고 저장·성공·실패·재시도 수를 작업 실행 컨텍스트에 기록
+ * - 작업이 완료되고 공휴일이 추가·수정·삭제되었으면 (또는 아직 스냅샷이 없으면) 공휴일 스냅샷 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayIngestionJobListener implements JobExecutionListener {
+
+    public static final String SAVED = "saved";
+    public static final String SUCCEEDED = "succeeded";
+    public static final String FAILED = "failed";
+    public static final String RETRIES = "retries";
+
+    private final CountryRepository countryRepository;
+    private final HolidayDataService holidayDataService;
+    private final IngestionRunTracker ingestionRunTracker;
+    private final JobRepository jobRepository;
+    private final HolidaySnapshotService holidaySnapshotService;
+
+    private final Map<Long, JobState> states = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        JobParameters parameters = jobExecution.getJobParameters();
+        List<Integer> years = IntStream.rangeClosed(parameters.getLong(START_YEAR).intValue(),
+                parameters.getLong(END_YEAR).intValue())
+            .boxed()
+            .toList();
+        Map<String, Country> countries = countryRepository.findAll().stream()
+            .collect(Collectors.toMap(Country::getCountryCode, Function.identity()));
+        Map<HolidaySyncKey, HolidayUpstreamValidators> validators = holidayDataService.findUpstreamValidators(years);
+
+        IngestionRun run = ingestionRunTracker.start(countries.size() * years.size(),
+            parameters.getString(REQUEST_ID));
+        resumeCommittedYears(jobExecution.getJobInstance(), countries.keySet(), years, run);
+        states.put(jobExecution.getId(), new JobState(run, countries, validators));
+        log.info("[HolidayIngestionJobListener] Job {} started: {} countries, years {}~{}",
+            jobExecution.getId(), countries.size(), years.get(0), years.get(years.size() - 1));
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        JobState state = states.remove(jobExecution.getId());
+        if (state == null) {
+            return;
+        }
+        IngestionReport report = ingestionRunTracker.finish(state.run(), "spring-batch");
+
+        ExecutionContext context = jobExecution.getExecutionContext();
+        context.putInt(SAVED, report.saved());
+        context.putInt(SUCCEEDED, report.succeeded());
+        context.putInt(FAILED, report.failed());
+        context.putLong(RETRIES, report.retries());
+        jobRepository.updateExecutionContext(jobExecution);
+        log.info("[HolidayIngestionJobListener] Job {} finished: {}", jobExecution.getId(), jobExecution.getStatus());
+
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED
+            && (state.run().changed() > 0 || !holidaySnapshotService.exists())) {
+            holidaySnapshotService.write();
+        }
+    }
+
+    // 같은 작업 인스턴스의 이전 실행에서 완료된 파티션은 모든 연도, 실패·중단된 파티션은 커밋된 청크까지의 연도
+    private void resumeCommittedYears(JobInstance instance, Collection<String> countryCodes, List<Integer> years,
+        IngestionRun run) {
+        int resumed = 0;
+        for (String countryCode : countryCodes) {
+            StepExecution last = jobRepository.getLastStepExecution(instance,
+                WORKER_STEP_NAME + ":" + HolidayCountryPartitioner.partitionName(countryCode));
+            if (last == null) {
+                continue;
+            }
+            int committed = last.getStatus() == BatchStatus.COMPLETED ? years.size()
+                : Math.min(years.size(), HolidayYearItemReader.committedYears(last.getExecutionContext()));
+            for (int i = 0; i < committed; i++) {
+                run.recordResumed(countryCode, years.get(i));
+            }
+            resumed += committed;
+        }
+        if (resumed > 0) {
+            log.info("[HolidayIngestionJobListener] Restarting job instance {}: {} country-years already committed",
+                instance.getInstanceId(), resumed);
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 상태 (파티션 스텝에서 조회)
+     * @param jobExecutionId 작업 실행 ID
+     * @return 작업 상태
+     */
+    public JobState state(Long jobExecutionId) {
+        JobState state = states.get(jobExecutionId);
+        if (state == null) {
+            throw new IllegalStateException("실행 중인 수집 작업이 아닙니다: " + jobExecutionId);
+        }
+        return state;
+    }
+
+    /**
+     * 작업 실행 하나가 파티션 간에 공유하는 상태
+     * @param run 수집 실행 상태 (동시 요청 수·재시도 예산·집계)
+     * @param countries 국가 코드별 국가
+     * @param validators (국가, 연도) 별 마지막 응답 검증값
+     */
+    public record JobState(
+        IngestionRun run,
+        Map<String, Country> countries,
+        Map<HolidaySyncKey, HolidayUpstreamValidators> validators
+    ) {
+
+    }
+}
@@ -0,0 +1,249 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidayNameDto;
+import com.holidaykeeper.entity.Holiday;
+import com.holidaykeeper.event.HolidayDataChangedEvent;
+import com.holidaykeeper.repository.HolidayRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공휴일 name / localName 부분 문자열 검색용 n-gram 역색인
+ * - 국가별 세그먼트에 (n-gram → 행 번호 목록) 을 보관하고 공휴일 데이터 변경 시 해당 국가만 재구성
+ * - 검색어의 n-gram 목록을 교집합한 뒤 실제 포함 여부를 확인하여 일치하는 id 만 반환
+ * - 한국어·일본어 공휴일 이름이 짧으므로 코드포인트 단위 2-gram 사용 (Holiday.normalizeName 으로 정규화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayNameIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    // 결과 id 가 이보다 많으면 IN 조건보다 LIKE 조건이 나으므로 인덱스를 사용하지 않음
+    private static final int MAX_MATCHED_IDS = 1_000;
+
+    private final HolidayRepository holidayRepository;
+
+    // 국가코드 → 이름 세그먼트
+    private final Map<String, NameSegment> segments = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 국가의 이름 색인을 다시 구성하는 메서드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildAll() {
+        Map<String, List<HolidayNameDto>> rowsByCountry = holidayRepository.findAllHolidayNames()
+            .stream()
+            .collect(Collectors.groupingBy(HolidayNameDto::countryCode));
+
+        Map<String, NameSegment> rebuilt = new HashMap<>();
+        rowsByCountry.forEach((countryCode, rows) -> rebuilt.put(countryCode, NameSegment.of(rows)));
+
+        segments.putAll(rebuilt);
+        segments.keySet().retainAll(rebuilt.keySet());
+        log.info("[HolidayNameIndex] Rebuilt name index for {} countries", rebuilt.size());
+    }
+
+    /**
+     * 공휴일 데이터가 변경된 국가의 이름 색인만 다시 구성하는 메서드 (커밋 이후 실행)
+     * @param event 공휴일 데이터 변경 이벤트
+     */
+    @Order(HolidayDataChangedEvent.INDEX_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        rebuild(event.countryCode());
+    }
+
+    /**
+     * 특정 국가의 이름 색인을 다시 구성하는 메서드
+     * @param countryCode 국가코드
+     */
+    public synchronized void rebuild(String countryCode) {
+        List<HolidayNameDto> rows = holidayRepository.findHolidayNamesByCountryCode(countryCode);
+        if (rows.isEmpty()) {
+            segments.remove(countryCode);
+        } else {
+            segments.put(countryCode, NameSegment.of(rows));
+        }
+    }
+
+    /**
+     * name 또는 localName 에 검색어가 포함된 공휴일 id 조회
+     * @param countryCode 국가코드 (없으면 전체 국가)
+     * @param term 검색어
+     * @return 일치하는 id 목록, 색인으로 풀 수 없는 검색어(1글자)이거나 결과가 너무 많으면 empty
+     */
+    public Optional<Set<UUID>> findIds(String countryCode, String term) {
+        String normalized = normalize(term);
+        if (normalized.codePointCount(0, normalized.length()) < GRAM_SIZE) {
+            return Optional.empty();
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(normalized, grams);
+
+        Collection<NameSegment> targets;
+        if (countryCode == null || countryCode.isBlank()) {
+            targets = segments.values();
+        } else {
+            NameSegment segment = segments.get(countryCode);
+            targets = segment == null ? List.of() : List.of(segment);
+        }
+
+        Set<UUID> ids = new HashSet<>();
+        for (NameSegment segment : targets) {
+            if (!segment.collect(grams, normalized, ids)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    private static String normalize(String text) {
+        return Holiday.normalizeName(text);
+    }
+
+    private static void addGrams(String text, Collection<String> grams) {
+        int[] codePoints = text.codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+    }
+
+    /**
+     * 한 국가의 이름 색인 (생성 이후 수정하지 않음)
+     */
+    private static final class NameSegment {
+
+        private final UUID[] ids;
+        private final String[] names;
+        private final String[] localNames;
+        private final Map<String, int[]> postings;
+
+        private NameSegment(UUID[] ids, String[] names, String[] localNames, Map<String, int[]> postings) {
+            this.ids = ids;
+            this.names = names;
+            this.localNames = localNames;
+            this.postings = postings;
+        }
+
+        static NameSegment of(List<HolidayNameDto> rows) {
+            int size = rows.size();
+            UUID[] ids = new UUID[size];
+            String[] names = new String[size];
+            String[] localNames = new String[size];
+            Map<String, IntArray> building = new HashMap<>();
+
+            // 행 번호를 오름차순으로 추가하므로 각 posting 은 정렬된 상태
+            Set<String> rowGrams = new HashSet<>();
+            for (int row = 0; row < size; row++) {
+                HolidayNameDto dto = rows.get(row);
+                ids[row] = dto.id();
+                names[row] = normalize(dto.name());
+                localNames[row] = normalize(dto.localName());
+
+                rowGrams.clear();
+                addGrams(names[row], rowGrams);
+                addGrams(localNames[row], rowGrams);
+                for (String gram : rowGrams) {
+                    building.computeIfAbsent(gram, key -> new IntArray()).add(row);
+                }
+            }
+
+            Map<String, int[]> postings = new HashMap<>(building.size() * 2);
+            building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+            return new NameSegment(ids, names, localNames, postings);
+        }
+
+        /**
+         * 검색어의 모든 n-gram 을 가진 행을 찾아 실제 포함 여부 확인 후 id 수집
+         * @return 수집한 id 가 최대치를 넘으면 false
+         */
+        boolean collect(Set<String> grams, String term, Set<UUID> result) {
+            List<int[]> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                int[] posting = postings.get(gram);
+                if (posting == null) {
+                    return true;
+                }
+                lists.add(posting);
+            }
+
+            // 가장 짧은 posting 부터 교집합
+            lists.sort(Comparator.comparingInt(list -> list.length));
+            int[] candidates = lists.get(0);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+
+            for (int row : candidates) {
+                if (names[row].contains(term) || localNames[row].contains(term)) {
+                    result.add(ids[row]);
+                    if (result.size() > MAX_MATCHED_IDS) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[size++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, size);
+        }
+    }
+
+    /**
+     * 박싱 없이 int 를 모으는 가변 배열
+     */
+    private static final class IntArray {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidayOverlapDay;
+import com.holidaykeeper.dto.HolidayOverlapMode;
+import com.holidaykeeper.dto.response.HolidayOverlapResponse;
+import com.holidaykeeper.exception.InvalidRequestException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 국가의 공휴일 교집합/합집합을 연도별 비트셋 연산으로 계산하는 서비스
+ * - ALL : AND, ANY : OR
+ * - EXACTLY k : 국가 수만큼 비트 슬라이스 카운터에 더한 뒤 k 와 같은 비트만 추출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidayOverlapService {
+
+    // 응답 크기를 제한하기 위한 최대 조회 기간
+    private static final long MAX_RANGE_DAYS = 366L * 10;
+
+    private final HolidayCalendarIndex holidayCalendarIndex;
+
+    /**
+     * 여러 국가의 공휴일 교집합/합집합 계산 메서드
+     * @param countryCodes 국가코드 목록 (비어있으면 전체 국가)
+     * @param fromDate 시작일 (포함)
+     * @param toDate 종료일 (포함)
+     * @param mode 계산 방식
+     * @param k EXACTLY 모드에서 공휴일이어야 하는 국가 수
+     * @return 조건을 만족하는 날짜와 해당 날짜가 공휴일인 국가 목록
+     */
+    public HolidayOverlapResponse findOverlap(List<String> countryCodes, LocalDate fromDate, LocalDate toDate,
+        HolidayOverlapMode mode, Integer k) {
+
+        if (fromDate.isAfter(toDate)) {
+            throw new InvalidRequestException("fromDate 는 toDate 보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        List<CountryCalendar> calendars = resolveCalendars(countryCodes);
+        if (mode == HolidayOverlapMode.EXACTLY && (k == null || k < 1 || k > calendars.size())) {
+            throw new InvalidRequestException("EXACTLY 모드의 k 는 1 이상 국가 수 이하여야 합니다.");
+        }
+
+        List<HolidayOverlapDay> days = new ArrayList<>();
+        for (int year = fromDate.getYear(); year <= toDate.getYear(); year++) {
+            BitSet matched = combine(calendars, year, mode, k);
+
+            // 조회 구간 밖의 비트 제거
+            int start = year == fromDate.getYear() ? fromDate.getDayOfYear() - 1 : 0;
+            int end = year == toDate.getYear() ? toDate.getDayOfYear() : Integer.MAX_VALUE;
+            for (int i = matched.nextSetBit(start); i >= 0 && i < end; i = matched.nextSetBit(i + 1)) {
+                days.add(new HolidayOverlapDay(LocalDate.ofYearDay(year, i + 1), holidayCountries(calendars, year, i)));
+            }
+        }
+
+        log.info("[HolidayOverlapService] {} countries, mode: {}, matched days: {}",
+            calendars.size(), mode, days.size());
+        return new HolidayOverlapResponse(mode, mode == HolidayOverlapMode.EXACTLY ? k : null,
+            calendars.stream().map(CountryCalendar::getCountryCode).toList(), fromDate, toDate, days);
+    }
+
+    private List<CountryCalendar> resolveCalendars(List<String> countryCodes) {
+        if (countryCodes == null || countryCodes.isEmpty()) {
+            return holidayCalendarIndex.getAllCalendars().stream()
+                .sorted(Comparator.comparing(CountryCalendar::getCountryCode))
+                .toList();
+        }
+        return new LinkedHashSet<>(countryCodes).stream()
+            .map(holidayCalendarIndex::getCalendar)
+            .toList();
+    }
+
+    /**
+     * 한 연도에 대해 계산 방식에 맞게 국가별 공휴일 비트셋을 결합
+     */
+    private BitSet combine(List<CountryCalendar> calendars, int year, HolidayOverlapMode mode, Integer k) {
+        if (calendars.isEmpty()) {
+            return new BitSet(0);
+        }
+        switch (mode) {
+            case ALL: {
+                BitSet result = (BitSet) calendars.get(0).holidaysOf(year).clone();
+                for (int i = 1; i < calendars.size() && !result.isEmpty(); i++) {
+                    result.and(calendars.get(i).holidaysOf(year));
+                }
+                return result;
+            }
+            case ANY: {
+                BitSet result = new BitSet(366);
+                for (CountryCalendar calendar : calendars) {
+                    result.or(calendar.holidaysOf(year));
+                }
+                return result;
+            }
+            default:
+                return countEquals(calendars, year, k);
+        }
+    }
+
+    /**
+     * 날짜별 공휴일 국가 수를 비트 슬라이스(이진수 자리별 비트셋)로 누적한 뒤 k 와 같은 날만 추출
+     * - 국가 하나를 더할 때 자리올림(carry)이 없어질 때까지 XOR/AND 만 수행
+     */
+    private BitSet countEquals(List<CountryCalendar> calendars, int year, int k) {
+        List<BitSet> slices = new ArrayList<>();
+        for (CountryCalendar calendar : calendars) {
+            BitSet carry = (BitSet) calendar.holidaysOf(year).clone();
+            for (int i = 0; !carry.isEmpty(); i++) {
+                if (i == slices.size()) {
+                    slices.add(new BitSet(366));
+                }
+                BitSet slice = slices.get(i);
+                BitSet nextCarry = (BitSet) slice.clone();
+                nextCarry.and(carry);
+                slice.xor(carry);
+                carry = nextCarry;
+            }
+        }
+
+        // k 의 자리수가 누적된 최대 자리수보다 크면 만족하는 날이 없음
+        if (32 - Integer.numberOfLeadingZeros(k) > slices.size()) {
+            return new BitSet(0);
+        }
+
+        BitSet result = new BitSet(366);
+        result.set(0, 366);
+        for (int i = 0; i < slices.size(); i++) {
+            if ((k & (1 << i)) != 0) {
+                result.and(slices.get(i));
+            } else {
+                result.andNot(slices.get(i));
+            }
+        }
+        return result;
+    }
+
+    private List<String> holidayCountries(List<CountryCalendar> calendars, int year, int dayIndex) {
+        List<String> countryCodes = new ArrayList<>();
+        for (CountryCalendar calendar : calendars) {
+            if (calendar.holidaysOf(year).get(dayIndex)) {
+                countryCodes.add(calendar.getCountryCode());
+            }
+        }
+        return countryCodes;
+    }
+}
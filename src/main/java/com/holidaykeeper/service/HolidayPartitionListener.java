@@ -0,0 +1,52 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidaySyncFetch;
+import com.holidaykeeper.dto.HolidaySyncKey;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 국가 파티션 스텝 리스너
+ * - 건너뛴 (국가, 연도) 를 실행 보고서에 기록
+ * - 파티션 처리량(소요 시간, 초당 처리 연도 수)을 파티션 실행 컨텍스트에 기록하여 작업 저장소에 남김
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HolidayPartitionListener implements StepExecutionListener, SkipListener<HolidaySyncKey, HolidaySyncFetch> {
+
+    public static final String ELAPSED_MILLIS = "elapsedMillis";
+    public static final String ITEMS_PER_SECOND = "itemsPerSecond";
+
+    private final IngestionRun run;
+
+    @Override
+    public void onSkipInWrite(HolidaySyncFetch item, Throwable t) {
+        HolidaySyncKey key = item.key();
+        run.recordFailure(key.countryCode(), key.year(), t);
+        log.error("[HolidayPartitionListener] {}-{} 건너뜀: {}", key.countryCode(), key.year(), t.getMessage());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long elapsedMillis = Math.max(1, Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis());
+        double itemsPerSecond = stepExecution.getReadCount() * 1000.0 / elapsedMillis;
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(ELAPSED_MILLIS, elapsedMillis);
+        context.putDouble(ITEMS_PER_SECOND, itemsPerSecond);
+
+        log.info("[HolidayPartitionListener] {} read {}, written {}, filtered {}, skipped {}, commits {}, "
+                + "rollbacks {}, {} ms ({} items/s)",
+            stepExecution.getStepName(), stepExecution.getReadCount(), stepExecution.getWriteCount(),
+            stepExecution.getFilterCount(), stepExecution.getSkipCount(), stepExecution.getCommitCount(),
+            stepExecution.getRollbackCount(), elapsedMillis, String.format("%.1f", itemsPerSecond));
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,116 @@
+package com.holidaykeeper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.holidaykeeper.config.HolidaySearchCacheProperties;
+import com.holidaykeeper.dto.response.HolidayPageResponse;
+import com.holidaykeeper.dto.response.SearchCacheStatsResponse;
+import com.holidaykeeper.event.HolidayDataChangedEvent;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공휴일 검색 페이지 캐시 (Caffeine, W-TinyLFU)
+ * - 정규화한 필터 + 커서를 키로 검색 결과 페이지를 보관
+ * - 페이지 크기(레코드 수)를 가중치로 사용하여 전체 보관량을 제한
+ * - 공휴일 데이터가 변경되면 해당 국가 검색과 국가 미지정 검색만 무효화
+ */
+@Slf4j
+@Component
+public class HolidaySearchCache {
+
+    private final Cache<SearchKey, HolidayPageResponse> pages;
+    private final long maximumWeight;
+
+    // 조회 도중 무효화가 일어났는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public HolidaySearchCache(HolidaySearchCacheProperties properties) {
+        this.maximumWeight = properties.maximumWeight();
+        this.pages = Caffeine.newBuilder()
+            .maximumWeight(properties.maximumWeight())
+            .weigher((SearchKey key, HolidayPageResponse page) -> 1 + page.data().size())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 조회하여 저장하는 메서드
+     * @param key 정규화된 검색 조건
+     * @param loader 실제 검색
+     * @return 검색 결과 페이지
+     */
+    public HolidayPageResponse get(SearchKey key, Supplier<HolidayPageResponse> loader) {
+        HolidayPageResponse cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        HolidayPageResponse page = loader.get();
+        pages.put(key, page);
+        // 조회하는 동안 데이터가 변경되었다면 오래된 값일 수 있으므로 다시 제거
+        if (generation.get() != startGeneration) {
+            pages.invalidate(key);
+        }
+        return page;
+    }
+
+    /**
+     * 공휴일 데이터가 변경된 국가의 검색 페이지 제거 (커밋 이후 실행)
+     * @param event 공휴일 데이터 변경 이벤트
+     */
+    @Order(HolidayDataChangedEvent.CACHE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        pages.asMap().keySet().removeIf(key ->
+            key.countryCode() == null || Objects.equals(key.countryCode(), event.countryCode()));
+        log.debug("[HolidaySearchCache] Invalidated search pages for {}", event.countryCode());
+    }
+
+    /**
+     * 캐시 적중/실패/제거 통계
+     * @return 통계
+     */
+    public SearchCacheStatsResponse stats() {
+        CacheStats stats = pages.stats();
+        return new SearchCacheStatsResponse(
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount(),
+            stats.evictionWeight(),
+            pages.estimatedSize(),
+            pages.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L),
+            maximumWeight
+        );
+    }
+
+    /**
+     * 정규화된 검색 조건 (빈 문자열은 null, 타입·정렬은 표준 표기)
+     */
+    public record SearchKey(
+        String countryCode,
+        LocalDate fromDate,
+        LocalDate toDate,
+        String holidayType,
+        String nameLike,
+        String cursor,
+        LocalDate seekDate,
+        int size,
+        String sortBy,
+        String sortDirection,
+        boolean includeTotal
+    ) {
+
+    }
+}
@@ -0,0 +1,274 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidaySnapshot;
+import com.holidaykeeper.dto.HolidaySnapshot.CountrySection;
+import com.holidaykeeper.dto.HolidaySnapshot.SyncState;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import com.holidaykeeper.entity.HolidayType;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 공휴일 스냅샷 바이너리 형식 (버전 1)
+ *
+ * header   : magic "HKSN" (int) · 버전 (short) · 생성 시각 (long)
+ * 사전      : 공휴일 이름·현지 이름 문자열 표, 지역(county) 코드 표 (각 공휴일은 표의 번호만 기록)
+ * 국가      : 국가 코드·이름은 국가 구역마다 한 번만 기록 (국가 구역 번호가 곧 국가 코드 사전)
+ *  - 공휴일 : 날짜는 직전 공휴일과의 일수 차이, 이름은 사전 번호, fixed/global/launchYear 는 플래그 1바이트, 타입은 type_mask 1바이트
+ *  - 동기화 상태 : 연도·내용 해시·ETag·Last-Modified·본문 해시
+ * trailer  : 앞의 모든 바이트의 CRC32 (int)
+ *
+ * 정수는 가변 길이(varint, 날짜 차이는 zigzag), 문자열은 길이 + UTF-8, null 가능 문자열은 길이 + 1 (0 이면 null)
+ */
+public final class HolidaySnapshotCodec {
+
+    public static final int MAGIC = 0x484B534E;   // "HKSN"
+    public static final short VERSION = 1;
+
+    private static final int FIXED = 1;
+    private static final int GLOBAL = 1 << 1;
+    private static final int HAS_LAUNCH_YEAR = 1 << 2;
+
+    private HolidaySnapshotCodec() {
+    }
+
+    /**
+     * 스냅샷을 출력 스트림에 기록
+     * @param snapshot 스냅샷
+     * @param out 출력 스트림 (닫지 않음)
+     */
+    public static void encode(HolidaySnapshot snapshot, OutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<String, Integer> counties = new LinkedHashMap<>();
+        for (CountrySection country : snapshot.countries()) {
+            for (HolidaySaveRequest holiday : country.holidays()) {
+                strings.putIfAbsent(holiday.name(), strings.size());
+                strings.putIfAbsent(holiday.localName(), strings.size());
+                if (holiday.counties() != null) {
+                    holiday.counties().forEach(county -> counties.putIfAbsent(county, counties.size()));
+                }
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeLong(snapshot.createdAt());
+
+        writeDictionary(data, strings);
+        writeDictionary(data, counties);
+
+        writeVarInt(data, snapshot.countries().size());
+        for (CountrySection country : snapshot.countries()) {
+            writeString(data, country.countryCode());
+            writeString(data, country.name());
+
+            writeVarInt(data, country.holidays().size());
+            long previousDay = 0;
+            for (HolidaySaveRequest holiday : country.holidays()) {
+                long day = holiday.date().toEpochDay();
+                writeVarLong(data, zigzag(day - previousDay));
+                previousDay = day;
+
+                writeVarInt(data, strings.get(holiday.name()));
+                writeVarInt(data, strings.get(holiday.localName()));
+                int flags = (holiday.fixed() ? FIXED : 0) | (holiday.global() ? GLOBAL : 0)
+                    | (holiday.launchYear() != null ? HAS_LAUNCH_YEAR : 0);
+                data.writeByte(flags);
+                data.writeByte(HolidayType.toMask(holiday.types()));
+                if (holiday.launchYear() != null) {
+                    writeVarInt(data, holiday.launchYear());
+                }
+                List<String> holidayCounties = holiday.counties() == null ? List.of() : holiday.counties();
+                writeVarInt(data, holidayCounties.size());
+                for (String county : holidayCounties) {
+                    writeVarInt(data, counties.get(county));
+                }
+            }
+
+            writeVarInt(data, country.syncStates().size());
+            for (SyncState state : country.syncStates()) {
+                writeVarInt(data, state.year());
+                writeString(data, state.contentHash());
+                writeNullableString(data, state.etag());
+                writeNullableString(data, state.lastModified());
+                writeNullableString(data, state.payloadHash());
+            }
+        }
+        data.flush();
+
+        // CRC 는 체크섬 대상에서 제외하고 원래 스트림에 기록
+        new DataOutputStream(out).writeInt((int) crc.getValue());
+        out.flush();
+    }
+
+    /**
+     * 버퍼(메모리 매핑된 파일)에서 스냅샷 복원
+     * @param buffer 스냅샷 전체가 담긴 버퍼 (position 0 ~ limit)
+     * @return 스냅샷
+     * @throws IllegalStateException 형식·버전이 다르거나 체크섬이 맞지 않으면
+     */
+    public static HolidaySnapshot decode(ByteBuffer buffer) {
+        int length = buffer.limit();
+        if (length < Integer.BYTES * 2 + Short.BYTES + Long.BYTES) {
+            throw new IllegalStateException("스냅샷 파일이 너무 작습니다: " + length + " bytes");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, length - Integer.BYTES));
+        if ((int) crc.getValue() != buffer.getInt(length - Integer.BYTES)) {
+            throw new IllegalStateException("스냅샷 체크섬이 일치하지 않습니다.");
+        }
+
+        ByteBuffer in = buffer.slice(0, length - Integer.BYTES);
+        if (in.getInt() != MAGIC) {
+            throw new IllegalStateException("공휴일 스냅샷 파일이 아닙니다.");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IllegalStateException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+        long createdAt = in.getLong();
+
+        String[] strings = readDictionary(in);
+        String[] counties = readDictionary(in);
+
+        int countryCount = readVarInt(in);
+        List<CountrySection> countries = new ArrayList<>(countryCount);
+        for (int c = 0; c < countryCount; c++) {
+            String countryCode = readString(in);
+            String name = readString(in);
+
+            int holidayCount = readVarInt(in);
+            List<HolidaySaveRequest> holidays = new ArrayList<>(holidayCount);
+            long day = 0;
+            for (int h = 0; h < holidayCount; h++) {
+                day += unzigzag(readVarLong(in));
+                String holidayName = strings[readVarInt(in)];
+                String localName = strings[readVarInt(in)];
+                int flags = in.get();
+                int typeMask = in.get();
+                Integer launchYear = (flags & HAS_LAUNCH_YEAR) != 0 ? readVarInt(in) : null;
+                int countyCount = readVarInt(in);
+                List<String> holidayCounties = null;
+                if (countyCount > 0) {
+                    holidayCounties = new ArrayList<>(countyCount);
+                    for (int i = 0; i < countyCount; i++) {
+                        holidayCounties.add(counties[readVarInt(in)]);
+                    }
+                }
+                holidays.add(new HolidaySaveRequest(LocalDate.ofEpochDay(day), localName, holidayName, countryCode,
+                    (flags & FIXED) != 0, (flags & GLOBAL) != 0, holidayCounties, launchYear,
+                    HolidayType.toNames(typeMask)));
+            }
+
+            int stateCount = readVarInt(in);
+            List<SyncState> syncStates = new ArrayList<>(stateCount);
+            for (int s = 0; s < stateCount; s++) {
+                syncStates.add(new SyncState(readVarInt(in), readString(in), readNullableString(in),
+                    readNullableString(in), readNullableString(in)));
+            }
+            countries.add(new CountrySection(countryCode, name, holidays, syncStates));
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalStateException("스냅샷 끝에 알 수 없는 데이터가 있습니다.");
+        }
+        return new HolidaySnapshot(createdAt, countries);
+    }
+
+    private static void writeDictionary(DataOutputStream out, Map<String, Integer> dictionary) throws IOException {
+        writeVarInt(out, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(out, value);
+        }
+    }
+
+    private static String[] readDictionary(ByteBuffer in) {
+        String[] values = new String[readVarInt(in)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(in);
+        }
+        return values;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        return readUtf8(in, readVarInt(in));
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readNullableString(ByteBuffer in) {
+        int length = readVarInt(in);
+        return length == 0 ? null : readUtf8(in, length - 1);
+    }
+
+    private static String readUtf8(ByteBuffer in, int length) {
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("스냅샷 정수 값이 범위를 벗어났습니다: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("스냅샷 가변 길이 정수 형식이 잘못되었습니다.");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.HolidaySnapshotProperties;
+import com.holidaykeeper.dto.HolidaySnapshot;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 공휴일 데이터 스냅샷 기록·복원
+ * - 기록 : 수집 작업이 완료되면 DB 전체를 HolidaySnapshotCodec 형식으로 임시 파일에 쓴 뒤 원자적으로 교체
+ * - 복원 : 기동 시 외부 API 호출 전에 스냅샷 파일을 메모리 매핑으로 읽어 빈 DB 에 한 번에 저장
+ * - 스냅샷이 없거나 손상·버전 불일치면 복원하지 않고 외부 API 적재로 진행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidaySnapshotService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final HolidayDataService holidayDataService;
+    private final HolidaySnapshotProperties snapshotProperties;
+
+    /**
+     * 스냅샷 파일을 빈 DB 에 복원
+     * @return 복원한 스냅샷 (비활성화, 파일 없음, 손상, DB 에 이미 데이터가 있으면 empty)
+     */
+    public Optional<HolidaySnapshot> restore() {
+        Path path = snapshotProperties.path();
+        if (!snapshotProperties.enabled() || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        long startedAt = System.nanoTime();
+        HolidaySnapshot snapshot;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            snapshot = HolidaySnapshotCodec.decode(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[HolidaySnapshotService] Ignoring snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+
+        try {
+            if (!holidayDataService.restore(snapshot)) {
+                log.info("[HolidaySnapshotService] Database already has data; snapshot {} not restored", path);
+                return Optional.empty();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[HolidaySnapshotService] Failed to restore snapshot {}: {}", path, e.getMessage(), e);
+            return Optional.empty();
+        }
+        log.info("[HolidaySnapshotService] Restored {} countries, {} holidays from {} in {} ms",
+            snapshot.countries().size(), snapshot.holidayCount(), path, (System.nanoTime() - startedAt) / 1_000_000);
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * 현재 DB 로 스냅샷 파일 기록 (실패해도 예외를 던지지 않음)
+     * @return 기록했으면 true
+     */
+    public boolean write() {
+        if (!snapshotProperties.enabled()) {
+            return false;
+        }
+
+        Path path = snapshotProperties.path().toAbsolutePath();
+        try {
+            HolidaySnapshot snapshot = holidayDataService.snapshot();
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+                    HolidaySnapshotCodec.encode(snapshot, out);
+                }
+                // 읽는 쪽이 쓰다 만 파일을 보지 않도록 다 쓴 뒤 교체
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("[HolidaySnapshotService] Wrote snapshot {} ({} countries, {} holidays, {} bytes)", path,
+                snapshot.countries().size(), snapshot.holidayCount(), Files.size(path));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("[HolidaySnapshotService] Failed to write snapshot {}: {}", path, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 스냅샷 파일 존재 여부
+     * @return 기록된 스냅샷이 있으면 true
+     */
+    public boolean exists() {
+        return Files.isRegularFile(snapshotProperties.path());
+    }
+}
@@ -0,0 +1,31 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidaySyncFetch;
+import com.holidaykeeper.dto.HolidaySyncKey;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.service.HolidayIngestionJobListener.JobState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 수집 단계 : (국가, 연도) 의 공휴일 조회를 선택된 수집 엔진에 비동기로 맡기는 ItemProcessor
+ * - 결과를 기다리지 않으므로 청크 하나(write-batch-size 개 연도)의 요청이 동시에 진행됨
+ * - 실제 동시 요청 수·재시도는 작업 전체가 공유하는 IngestionRun 이 조절
+ * - 결과는 HolidaySyncItemWriter 가 모아서 저장
+ */
+@RequiredArgsConstructor
+public class HolidaySyncItemProcessor implements ItemProcessor<HolidaySyncKey, HolidaySyncFetch> {
+
+    private final IngestionEngine ingestionEngine;
+    private final JobState jobState;
+
+    @Override
+    public HolidaySyncFetch process(HolidaySyncKey key) {
+        Country country = jobState.countries().get(key.countryCode());
+        if (country == null) {
+            throw new IllegalStateException("국가 정보가 없습니다: " + key.countryCode());
+        }
+        return new HolidaySyncFetch(key, ingestionEngine.fetchAsync(country, key.year(),
+            jobState.validators().get(key), jobState.run()));
+    }
+}
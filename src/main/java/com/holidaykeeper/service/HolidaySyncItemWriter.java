@@ -0,0 +1,35 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidaySyncCommand;
+import com.holidaykeeper.dto.HolidaySyncFetch;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 저장 단계 : 청크 하나의 수집 결과를 모두 기다린 뒤 쓰기 요청을 청크 트랜잭션 하나로 반영하는 ItemWriter
+ * - 수집·저장 실패는 예외를 그대로 던져 스텝의 재시도·건너뛰기 정책에 맡김
+ *   (건너뛸 항목을 찾을 때는 한 건씩 다시 호출되지만, 수집 결과는 재사용하므로 외부 API 를 다시 호출하지 않음)
+ */
+@RequiredArgsConstructor
+public class HolidaySyncItemWriter implements ItemWriter<HolidaySyncFetch> {
+
+    private final HolidaySyncStages holidaySyncStages;
+    private final IngestionRun run;
+
+    @Override
+    public void write(Chunk<? extends HolidaySyncFetch> chunk) {
+        List<HolidaySyncCommand> commands = new ArrayList<>(chunk.size());
+        for (HolidaySyncFetch fetch : chunk) {
+            HolidaySyncCommand command = fetch.join();
+            if (command != null) {
+                commands.add(command);
+            }
+        }
+        if (!commands.isEmpty()) {
+            holidaySyncStages.writeChunk(commands, run);
+        }
+    }
+}
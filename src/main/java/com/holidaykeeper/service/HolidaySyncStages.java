@@ -0,0 +1,136 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidaySyncCommand;
+import com.holidaykeeper.dto.HolidaySyncResult;
+import com.holidaykeeper.dto.HolidayUpstreamResponse;
+import com.holidaykeeper.dto.HolidayUpstreamValidators;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import com.holidaykeeper.entity.Country;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 수집 엔진(Reactor, 가상 스레드)과 Spring Batch 작업이 공통으로 사용하는 단계
+ * - 응답 변환 : 외부 API 응답 → 쓰기 요청 (변경이 없으면 쓰기 요청을 만들지 않음)
+ * - 저장 : 쓰기 요청 묶음 → 트랜잭션 하나
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidaySyncStages {
+
+    private final HolidayDataService holidayDataService;
+    private final HolidayUpstreamClient holidayUpstreamClient;
+
+    /**
+     * 외부 API 응답을 쓰기 요청으로 변환
+     * - 304 Not Modified 이면 파싱·쓰기 생략
+     * - 200 이어도 본문 원문 해시가 마지막 응답과 같으면 파싱·쓰기 생략 (검증값만 바뀌었으면 검증값만 갱신)
+     * @param country 국가
+     * @param year 연도
+     * @param previous 이전 응답 검증값 (없으면 null)
+     * @param response 외부 API 응답
+     * @param run 수집 실행 상태
+     * @return 쓰기 요청 (쓸 내용이 없으면 성공으로 기록하고 null)
+     */
+    public HolidaySyncCommand toCommand(Country country, int year, HolidayUpstreamValidators previous,
+        HolidayUpstreamResponse response, IngestionRun run) {
+
+        // 304 Not Modified : 파싱·쓰기 모두 생략
+        if (response.notModified()) {
+            log.info("[HolidaySyncStages] {}-{} 변경 없음 (304)", country.getCountryCode(), year);
+            run.recordSuccess(country.getCountryCode(), year, HolidaySyncResult.skipped());
+            return null;
+        }
+
+        // 본문 원문이 마지막 응답과 같으면 파싱·쓰기 생략 (검증값만 바뀌었으면 검증값만 갱신)
+        HolidayUpstreamValidators validators = new HolidayUpstreamValidators(response.etag(),
+            response.lastModified(), HolidayContentHasher.sha256(response.body()));
+        if (previous != null && validators.payloadHash().equals(previous.payloadHash())) {
+            log.info("[HolidaySyncStages] {}-{} 변경 없음 (본문 동일)", country.getCountryCode(), year);
+            if (validators.equals(previous)) {
+                run.recordSuccess(country.getCountryCode(), year, HolidaySyncResult.skipped());
+                return null;
+            }
+            return HolidaySyncCommand.validatorsUpdate(country, year, validators);
+        }
+
+        List<HolidaySaveRequest> holidaySaveRequests = holidayUpstreamClient.parse(response.body());
+
+        // 데이터가 없을 경우 (일부 국가/년도의 API 응답 특성)
+        if (holidaySaveRequests.isEmpty()) {
+            run.recordSuccess(country.getCountryCode(), year, null);
+            return null;
+        }
+        return new HolidaySyncCommand(country, year, holidaySaveRequests, validators);
+    }
+
+    /**
+     * 저장 단계 : 쓰기 요청 묶음을 트랜잭션 하나로 반영
+     * - 기존 데이터와 비교하여 달라진 레코드만 반영 (내용이 같으면 쓰기 생략)
+     * - 묶음 트랜잭션이 실패하면 실패한 요청만 걸러내도록 건별 트랜잭션으로 다시 저장
+     * @param batch 쓰기 요청 묶음
+     * @param run 수집 실행 상태
+     */
+    public void write(List<HolidaySyncCommand> batch, IngestionRun run) {
+        long startNanos = System.nanoTime();
+        try {
+            List<HolidaySyncResult> results = holidayDataService.syncHolidaysBatch(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                recordResult(batch.get(i), results.get(i), run);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[HolidaySyncStages] 묶음 저장 실패 ({}건), 건별로 다시 저장합니다: {}",
+                batch.size(), e.getMessage());
+            for (HolidaySyncCommand command : batch) {
+                try {
+                    recordResult(command, holidayDataService.syncHolidaysBatch(List.of(command)).get(0), run);
+                } catch (RuntimeException commandError) {
+                    run.recordFailure(command.country().getCountryCode(), command.year(), commandError);
+                    log.error("[HolidaySyncStages] {}-{} 저장 실패: {}",
+                        command.country().getCountryCode(), command.year(), commandError.getMessage());
+                }
+            }
+        }
+        run.recordWriteBatch(batch.size(), System.nanoTime() - startNanos);
+        log.debug("[HolidaySyncStages] Wrote {} country-years, queue depth {}", batch.size(), run.queueDepth());
+    }
+
+    /**
+     * 저장 단계 (Spring Batch 청크) : 쓰기 요청 묶음을 현재 청크 트랜잭션 안에서 반영
+     * - 실패하면 건별로 다시 저장하지 않고 예외를 그대로 던짐 (스텝의 재시도·건너뛰기 정책이 처리)
+     * - 성공 기록은 커밋 이후에 남김 (롤백 후 다시 쓰는 청크가 두 번 집계되지 않도록)
+     * @param batch 쓰기 요청 묶음
+     * @param run 수집 실행 상태
+     */
+    public void writeChunk(List<HolidaySyncCommand> batch, IngestionRun run) {
+        long startNanos = System.nanoTime();
+        List<HolidaySyncResult> results = holidayDataService.syncHolidaysBatch(batch);
+        long nanos = System.nanoTime() - startNanos;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (int i = 0; i < batch.size(); i++) {
+                    recordResult(batch.get(i), results.get(i), run);
+                }
+                run.recordWriteBatch(batch.size(), nanos);
+            }
+        });
+    }
+
+    private void recordResult(HolidaySyncCommand command, HolidaySyncResult result, IngestionRun run) {
+        String countryCode = command.country().getCountryCode();
+        run.recordSuccess(countryCode, command.year(), result);
+        if (result.unchanged()) {
+            log.info("[HolidaySyncStages] {}-{} 변경 없음", countryCode, command.year());
+        } else {
+            log.info("[HolidaySyncStages] {}-{} 추가 {}, 수정 {}, 삭제 {}",
+                countryCode, command.year(), result.inserted(), result.updated(), result.deleted());
+        }
+    }
+}
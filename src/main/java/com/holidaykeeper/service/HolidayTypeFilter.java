@@ -0,0 +1,28 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.entity.HolidayType;
+import com.holidaykeeper.exception.InvalidRequestException;
+
+/**
+ * 검색·내보내기·피드 요청의 공휴일 타입 필터 검증
+ */
+final class HolidayTypeFilter {
+
+    private HolidayTypeFilter() {
+    }
+
+    /**
+     * 요청한 타입 이름을 외부 API 표기로 정규화
+     * @param holidayType 요청한 공휴일 타입 (대소문자 무시)
+     * @return 외부 API 타입 이름 (비어 있으면 null)
+     * @throws InvalidRequestException 지원하지 않는 타입일 때
+     */
+    static String normalize(String holidayType) {
+        if (holidayType == null || holidayType.isBlank()) {
+            return null;
+        }
+        return HolidayType.find(holidayType)
+            .map(HolidayType::getApiName)
+            .orElseThrow(() -> new InvalidRequestException("지원하지 않는 공휴일 타입입니다: " + holidayType));
+    }
+}
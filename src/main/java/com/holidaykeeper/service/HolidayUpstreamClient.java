@@ -0,0 +1,126 @@
+package com.holidaykeeper.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeper.dto.HolidayUpstreamResponse;
+import com.holidaykeeper.dto.HolidayUpstreamValidators;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 공휴일 API(Nager.Date) 호출 클라이언트
+ * - 이전에 저장한 ETag / Last-Modified 로 조건부 요청
+ * - 본문은 원문(byte[]) 그대로 돌려주어 해시가 같으면 파싱을 생략할 수 있도록 함
+ * - Reactor 수집 엔진은 WebClient(fetch), 가상 스레드 수집 엔진은 RestClient(fetchBlocking) 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayUpstreamClient {
+
+    private static final TypeReference<List<HolidaySaveRequest>> HOLIDAY_LIST = new TypeReference<>() {};
+
+    private final WebClient webClient;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 국가·연도 공휴일 조회
+     * @param countryCode 국가코드
+     * @param year 연도
+     * @param previous 이전 응답 검증값 (없으면 null)
+     * @return 응답 (변경이 없으면 notModified)
+     */
+    public Mono<HolidayUpstreamResponse> fetch(String countryCode, int year, HolidayUpstreamValidators previous) {
+        return webClient.get()
+            .uri("/PublicHolidays/{year}/{code}", year, countryCode)
+            .headers(headers -> {
+                if (previous != null && previous.etag() != null) {
+                    headers.setIfNoneMatch(previous.etag());
+                }
+                if (previous != null && previous.lastModified() != null) {
+                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+                }
+            })
+            .exchangeToMono(response -> {
+                if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    return response.releaseBody().thenReturn(HolidayUpstreamResponse.notModifiedResponse());
+                }
+                if (response.statusCode().is2xxSuccessful()) {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    return response.bodyToMono(byte[].class)
+                        .defaultIfEmpty(new byte[0])
+                        .map(body -> new HolidayUpstreamResponse(false, body, headers.getETag(),
+                            headers.getFirst(HttpHeaders.LAST_MODIFIED)));
+                }
+                return response.createError();
+            });
+    }
+
+    /**
+     * 국가·연도 공휴일 조회 (blocking, 가상 스레드에서 호출)
+     * @param countryCode 국가코드
+     * @param year 연도
+     * @param previous 이전 응답 검증값 (없으면 null)
+     * @return 응답 (변경이 없으면 notModified)
+     */
+    public HolidayUpstreamResponse fetchBlocking(String countryCode, int year, HolidayUpstreamValidators previous) {
+        return restClient.get()
+            .uri("/PublicHolidays/{year}/{code}", year, countryCode)
+            .headers(headers -> {
+                if (previous != null && previous.etag() != null) {
+                    headers.setIfNoneMatch(previous.etag());
+                }
+                if (previous != null && previous.lastModified() != null) {
+                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+                }
+            })
+            .exchange((request, response) -> {
+                if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    return HolidayUpstreamResponse.notModifiedResponse();
+                }
+                HttpHeaders headers = response.getHeaders();
+                byte[] body = response.getBody().readAllBytes();
+                if (response.getStatusCode().is2xxSuccessful()) {
+                    return new HolidayUpstreamResponse(false, body, headers.getETag(),
+                        headers.getFirst(HttpHeaders.LAST_MODIFIED));
+                }
+                // WebClient 와 같이 상태 코드별 예외로 변환 (재시도·동시성 조절에서 구분)
+                if (response.getStatusCode().is5xxServerError()) {
+                    throw HttpServerErrorException.create(response.getStatusCode(), response.getStatusText(),
+                        headers, body, StandardCharsets.UTF_8);
+                }
+                throw HttpClientErrorException.create(response.getStatusCode(), response.getStatusText(),
+                    headers, body, StandardCharsets.UTF_8);
+            });
+    }
+
+    /**
+     * 응답 본문을 공휴일 목록으로 변환
+     * @param body 응답 본문
+     * @return 공휴일 목록 (본문이 비어 있으면 빈 목록)
+     */
+    public List<HolidaySaveRequest> parse(byte[] body) {
+        if (body.length == 0) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(body, HOLIDAY_LIST);
+        } catch (IOException e) {
+            throw new UncheckedIOException("공휴일 응답을 읽을 수 없습니다", e);
+        }
+    }
+}
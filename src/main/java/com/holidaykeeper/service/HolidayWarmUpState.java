@@ -0,0 +1,176 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.HolidayWarmUpProperties;
+import com.holidaykeeper.config.HolidayWarmUpProperties.ReadyWhen;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 공휴일 적재(warm-up) 진행 상태
+ * - 국가 목록 → 올해 → 지난 연도 순으로 적재하며, readyWhen 기준을 넘으면 준비 상태
+ * - 스냅샷을 복원하면 외부 API 적재 전에 스냅샷이 담은 단계까지 바로 진행
+ * - 적재에 실패해도 준비 상태로 전환 (이미 저장된 데이터로 응답하고, 부분 데이터 헤더로 알림)
+ * - 작업은 완료되었지만 건너뛴 (국가, 연도) 가 있으면 그 연도는 적재된 범위에 넣지 않고 계속 부분 데이터로 알림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayWarmUpState {
+
+    private final HolidayWarmUpProperties warmUpProperties;
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile Phase phase = Phase.STARTING;
+    private volatile Integer loadedFromYear;
+    private volatile Integer loadedToYear;
+    private volatile String failure;
+    private volatile String skipped;
+
+    /**
+     * 국가 목록 적재 완료
+     */
+    public void countriesLoaded() {
+        advance(Phase.COUNTRIES_LOADED);
+    }
+
+    /**
+     * 모든 국가의 연도 범위 적재 완료 (적재된 연도 범위에 합침)
+     * @param startYear 시작 연도
+     * @param endYear 종료 연도
+     */
+    public synchronized void yearsLoaded(int startYear, int endYear) {
+        loadedFromYear = loadedFromYear == null ? startYear : Math.min(loadedFromYear, startYear);
+        loadedToYear = loadedToYear == null ? endYear : Math.max(loadedToYear, endYear);
+        int thisYear = LocalDate.now().getYear();
+        if (loadedFromYear <= thisYear && thisYear <= loadedToYear) {
+            advance(Phase.CURRENT_YEAR_LOADED);
+        }
+    }
+
+    /**
+     * 연도 범위 적재 작업은 완료되었지만 일부 (국가, 연도) 를 건너뜀 (적재된 연도 범위에 합치지 않음)
+     * @param startYear 시작 연도
+     * @param endYear 종료 연도
+     * @param failed 건너뛴 (국가, 연도) 수
+     */
+    public synchronized void yearsSkipped(int startYear, int endYear, int failed) {
+        String years = startYear == endYear ? String.valueOf(startYear) : startYear + "-" + endYear;
+        String note = years + " (" + failed + " skipped)";
+        skipped = skipped == null ? note : skipped + ", " + note;
+    }
+
+    /**
+     * 적재 완료
+     */
+    public void completed() {
+        advance(Phase.COMPLETED);
+        finished.countDown();
+    }
+
+    /**
+     * 적재 실패 (이후 단계는 진행하지 않음)
+     * @param reason 실패 사유
+     */
+    public void failed(String reason) {
+        failure = reason;
+        advance(Phase.FAILED);
+        finished.countDown();
+    }
+
+    /**
+     * 준비 상태 여부 (readyWhen 기준 도달 또는 적재 종료)
+     * @return 요청을 받을 준비가 되었으면 true
+     */
+    public boolean ready() {
+        Phase current = phase;
+        return current.finished() || current.ordinal() >= required(warmUpProperties.readyWhen()).ordinal();
+    }
+
+    /**
+     * 모든 연도 적재 여부
+     * @return 건너뛴 (국가, 연도) 없이 적재를 마쳤거나, 스냅샷 등으로 올해부터 지난 연도(past-years)까지 이미 적재되어 있으면 true
+     */
+    public synchronized boolean complete() {
+        if (phase == Phase.COMPLETED && skipped == null) {
+            return true;
+        }
+        int thisYear = LocalDate.now().getYear();
+        return loadedFromYear != null && loadedFromYear <= thisYear - warmUpProperties.pastYears()
+            && loadedToYear >= thisYear;
+    }
+
+    /**
+     * 적재 종료(완료 또는 실패)까지 대기
+     * @param timeout 최대 대기 시간
+     * @return 시간 안에 종료되었으면 true
+     */
+    public boolean awaitFinished(Duration timeout) throws InterruptedException {
+        return finished.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Phase phase() {
+        return phase;
+    }
+
+    public ReadyWhen readyWhen() {
+        return warmUpProperties.readyWhen();
+    }
+
+    public String failure() {
+        return failure;
+    }
+
+    public String skipped() {
+        return skipped;
+    }
+
+    /**
+     * 적재된 연도 범위 (예: 2026, 2021-2026, 아직 없으면 none)
+     * @return 연도 범위 표시 문자열
+     */
+    public synchronized String loadedYears() {
+        if (loadedFromYear == null) {
+            return "none";
+        }
+        return loadedFromYear.equals(loadedToYear) ? String.valueOf(loadedFromYear)
+            : loadedFromYear + "-" + loadedToYear;
+    }
+
+    // 단계는 앞으로만 진행 (스냅샷 복원 후 외부 API 재적재가 앞 단계를 다시 알려도 유지)
+    private synchronized void advance(Phase next) {
+        Phase previous = phase;
+        if (next.ordinal() <= previous.ordinal()) {
+            return;
+        }
+        phase = next;
+        log.info("[HolidayWarmUpState] {} -> {} (ready: {})", previous, next, ready());
+    }
+
+    private static Phase required(ReadyWhen readyWhen) {
+        return switch (readyWhen) {
+            case COUNTRIES -> Phase.COUNTRIES_LOADED;
+            case CURRENT_YEAR -> Phase.CURRENT_YEAR_LOADED;
+            case ALL_YEARS -> Phase.COMPLETED;
+        };
+    }
+
+    /**
+     * 적재 단계
+     */
+    public enum Phase {
+        STARTING,
+        COUNTRIES_LOADED,
+        CURRENT_YEAR_LOADED,
+        COMPLETED,
+        FAILED;
+
+        public boolean finished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+}
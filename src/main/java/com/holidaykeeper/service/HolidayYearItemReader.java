@@ -0,0 +1,57 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidaySyncKey;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * 국가 파티션 하나의 (국가, 연도) 를 연도 순으로 읽는 ItemReader
+ * - 읽은 수를 청크 커밋마다 파티션 실행 컨텍스트에 저장하므로, 재시작하면 마지막으로 커밋된 청크 다음 연도부터 읽음
+ */
+public class HolidayYearItemReader extends AbstractItemCountingItemStreamItemReader<HolidaySyncKey> {
+
+    private static final String NAME = "holidayYearItemReader";
+
+    private final String countryCode;
+    private final int startYear;
+    private final int endYear;
+    private int nextYear;
+
+    public HolidayYearItemReader(String countryCode, int startYear, int endYear) {
+        this.countryCode = countryCode;
+        this.startYear = startYear;
+        this.endYear = endYear;
+        setName(NAME);
+    }
+
+    /**
+     * 파티션 실행 컨텍스트에 저장된, 마지막으로 커밋된 청크까지 읽은 연도 수
+     * @param context 파티션 실행 컨텍스트
+     * @return 커밋된 연도 수 (기록이 없으면 0)
+     */
+    public static int committedYears(ExecutionContext context) {
+        return context.getInt(NAME + ".read.count", 0);
+    }
+
+    @Override
+    protected void doOpen() {
+        nextYear = startYear;
+    }
+
+    @Override
+    protected HolidaySyncKey doRead() {
+        if (nextYear > endYear) {
+            return null;
+        }
+        return new HolidaySyncKey(countryCode, nextYear++);
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        nextYear = startYear + itemIndex;
+    }
+
+    @Override
+    protected void doClose() {
+    }
+}
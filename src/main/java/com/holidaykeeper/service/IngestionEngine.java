@@ -0,0 +1,46 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.dto.HolidaySyncCommand;
+import com.holidaykeeper.dto.HolidaySyncKey;
+import com.holidaykeeper.dto.HolidayUpstreamValidators;
+import com.holidaykeeper.entity.Country;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 국가 × 연도 공휴일 수집 엔진
+ * - holiday-keeper.ingestion.engine 으로 선택 (reactor : 기본값, virtual-threads)
+ * - 어느 엔진이든 외부 API 동시 요청·재시도는 IngestionRun, 응답 변환·저장은 HolidaySyncStages 를 사용
+ * - 특정 국가/연도 갱신은 ingest, 전체 수집(Spring Batch 작업)은 청크마다 fetchAsync 로 수집하고 청크 트랜잭션으로 저장
+ */
+public interface IngestionEngine {
+
+    /**
+     * 엔진 이름 (로그·벤치마크 표시용)
+     */
+    String name();
+
+    /**
+     * 모든 (국가, 연도) 를 수집·저장할 때까지 대기하는 메서드
+     * @param countries 국가 목록
+     * @param years 연도 목록
+     * @param validators 시작 시 조회한 (국가, 연도) 별 마지막 응답 검증값
+     * @param run 수집 실행 상태 (동시성 제한, 재시도, 집계)
+     */
+    void ingest(List<Country> countries, List<Integer> years,
+        Map<HolidaySyncKey, HolidayUpstreamValidators> validators, IngestionRun run);
+
+    /**
+     * (국가, 연도) 하나를 비동기로 수집하여 쓰기 요청으로 변환 (저장은 호출한 쪽이 담당)
+     * - 동시 요청 수·재시도는 ingest 와 같이 run 이 조절
+     * - 재시도 후에도 실패하면 실패로 기록하지 않고 예외로 완료 (건너뛰기 여부는 호출한 쪽 정책)
+     * @param country 국가
+     * @param year 연도
+     * @param previous 이전 응답 검증값 (없으면 null)
+     * @param run 수집 실행 상태
+     * @return 쓰기 요청 (쓸 내용이 없으면 성공으로 기록하고 null 로 완료)
+     */
+    CompletableFuture<HolidaySyncCommand> fetchAsync(Country country, int year, HolidayUpstreamValidators previous,
+        IngestionRun run);
+}
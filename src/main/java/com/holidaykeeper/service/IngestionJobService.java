@@ -0,0 +1,300 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.HolidayIngestionJobProperties;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.dto.response.IngestionJobResponse;
+import com.holidaykeeper.dto.response.IngestionJobResponse.Status;
+import com.holidaykeeper.dto.response.IngestionJobResponse.TaskProgress;
+import com.holidaykeeper.dto.response.IngestionJobResponse.TaskStatus;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.exception.IngestionJobNotFoundException;
+import com.holidaykeeper.exception.InvalidRequestException;
+import com.holidaykeeper.repository.CountryRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 비동기 수집 작업 관리
+ * - 접수 : 작업 ID 를 바로 돌려주고, 전용 스레드 하나에서 Spring Batch 수집 작업을 순서대로 실행 (요청 스레드를 붙잡지 않음)
+ * - 같은 연도 범위의 작업이 대기·실행 중이면 새로 만들지 않고 그 작업을 돌려줌
+ * - 조회 : (국가, 연도) 별 진행 상황, 처리 수, 예상 남은 시간
+ * - 구독 : 진행 상황을 progress-interval 마다 SSE 로 전송하고, 작업이 끝나면 마지막 이벤트를 보낸 뒤 종료
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestionJobService {
+
+    // 작업 하나가 (국가 수 × 연도 수) 만큼 커지므로 수집할 수 있는 연도와 범위를 제한
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 2199;
+    private static final int MAX_YEARS = 50;
+
+    private final HolidayIngestionJobLauncher holidayIngestionJobLauncher;
+    private final IngestionRunTracker ingestionRunTracker;
+    private final CountryRepository countryRepository;
+    private final HolidayIngestionJobProperties jobProperties;
+
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+    // 수집 작업은 한 번에 하나씩 실행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        runnable -> new Thread(runnable, "ingestion-job"));
+
+    /**
+     * 수집 작업 접수
+     * @param startYear 시작 연도 (생략 시 5년 전)
+     * @param endYear 종료 연도 (생략 시 올해)
+     * @return 접수된 작업 (같은 범위의 작업이 대기·실행 중이면 그 작업)
+     * @throws InvalidRequestException 연도가 범위를 벗어나거나 연도 수가 MAX_YEARS 를 넘을 때
+     */
+    public synchronized IngestionJobResponse submit(Integer startYear, Integer endYear) {
+        int thisYear = LocalDateTime.now().getYear();
+        int from = startYear != null ? startYear : thisYear - 5;
+        int to = endYear != null ? endYear : thisYear;
+        if (from < MIN_YEAR || to > MAX_YEAR) {
+            throw new InvalidRequestException("연도는 " + MIN_YEAR + "~" + MAX_YEAR + "년 사이여야 합니다.");
+        }
+        if (from > to) {
+            throw new InvalidRequestException("startYear 는 endYear 보다 클 수 없습니다.");
+        }
+        if (to - from + 1 > MAX_YEARS) {
+            throw new InvalidRequestException("한 번에 수집할 수 있는 연도는 최대 " + MAX_YEARS + "개입니다.");
+        }
+
+        for (IngestionJob job : jobs.values()) {
+            if (!job.status.finished() && job.startYear == from && job.endYear == to) {
+                log.info("[IngestionJobService] Coalesced {}~{} into job {}", from, to, job.id);
+                return response(job, false);
+            }
+        }
+
+        evictFinishedJobs();
+        List<String> countryCodes = countryRepository.findAll().stream()
+            .map(Country::getCountryCode)
+            .sorted()
+            .toList();
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), from, to, countryCodes);
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job));
+        log.info("[IngestionJobService] Job {} queued ({}~{})", job.id, from, to);
+        return response(job, false);
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     * @param jobId 작업 ID
+     * @return (국가, 연도) 별 진행 상황을 포함한 작업 상태
+     */
+    public IngestionJobResponse get(String jobId) {
+        return response(find(jobId), true);
+    }
+
+    /**
+     * 작업 진행 이벤트 구독
+     * @param jobId 작업 ID
+     * @return 진행 이벤트(progress)를 보내고 작업이 끝나면 종료 이벤트(finished) 후 닫히는 SSE
+     */
+    public SseEmitter subscribe(String jobId) {
+        IngestionJob job = find(jobId);
+        SseEmitter emitter = new SseEmitter(jobProperties.sseTimeout().toMillis());
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+
+        // 작업 종료 처리와 겹치지 않도록 작업 단위로 동기화
+        synchronized (job) {
+            if (job.status.finished()) {
+                send(emitter, job);
+                emitter.complete();
+            } else {
+                job.emitters.add(emitter);
+                send(emitter, job);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 대기·실행 중인 작업의 구독자에게 진행 이벤트 전송
+     */
+    @Scheduled(fixedDelayString = "${holiday-keeper.ingestion-jobs.progress-interval:1s}")
+    public void publishProgress() {
+        for (IngestionJob job : jobs.values()) {
+            if (job.status.finished() || job.emitters.isEmpty()) {
+                continue;
+            }
+            synchronized (job) {
+                if (!job.status.finished()) {
+                    job.emitters.forEach(emitter -> send(emitter, job));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(IngestionJob job) {
+        job.startedAt = LocalDateTime.now();
+        job.status = Status.RUNNING;
+        Status status = Status.FAILED;
+        String message;
+        try {
+            JobExecution execution = holidayIngestionJobLauncher.launch(job.startYear, job.endYear, job.id);
+            if (execution.getStatus() == BatchStatus.COMPLETED) {
+                status = Status.COMPLETED;
+                message = "수집 완료";
+            } else {
+                message = String.format("작업이 %s 상태로 끝났습니다. 다시 요청하면 마지막으로 커밋된 지점부터 재시작합니다.",
+                    execution.getStatus());
+            }
+        } catch (RuntimeException e) {
+            message = e.getMessage();
+            log.error("[IngestionJobService] Job {} failed: {}", job.id, e.getMessage(), e);
+        }
+
+        job.run = ingestionRunTracker.requested(job.id).orElse(null);
+        ingestionRunTracker.release(job.id);
+        job.finishedAt = LocalDateTime.now();
+        job.message = message;
+        // 종료 상태 반영과 마지막 이벤트 전송을 구독 처리와 겹치지 않게 수행
+        synchronized (job) {
+            job.status = status;
+            job.emitters.forEach(emitter -> {
+                send(emitter, job);
+                emitter.complete();
+            });
+            job.emitters.clear();
+        }
+        log.info("[IngestionJobService] Job {} {}", job.id, status);
+    }
+
+    private IngestionJob find(String jobId) {
+        IngestionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IngestionJobNotFoundException();
+        }
+        return job;
+    }
+
+    // 보관 개수를 넘은 끝난 작업은 오래된 순으로 삭제
+    private void evictFinishedJobs() {
+        List<IngestionJob> finished = jobs.values().stream()
+            .filter(job -> job.status.finished())
+            .sorted(Comparator.comparing(job -> job.finishedAt))
+            .toList();
+        for (int i = 0; i < finished.size() - jobProperties.retainedJobs(); i++) {
+            jobs.remove(finished.get(i).id);
+        }
+    }
+
+    private void send(SseEmitter emitter, IngestionJob job) {
+        IngestionJobResponse response = response(job, false);
+        try {
+            emitter.send(SseEmitter.event()
+                .name(response.status().finished() ? "finished" : "progress")
+                .data(response));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자
+            job.emitters.remove(emitter);
+        }
+    }
+
+    private IngestionJobResponse response(IngestionJob job, boolean includeTasks) {
+        IngestionRun run = job.currentRun();
+        IngestionReport report = run == null ? null : run.report();
+        int years = job.endYear - job.startYear + 1;
+        int total = report != null ? report.tasks() : job.countryCodes.size() * years;
+        int succeeded = report == null ? 0 : report.succeeded();
+        int failed = report == null ? 0 : report.failed();
+        int completed = succeeded + failed;
+        double tasksPerSecond = report == null ? 0 : report.tasksPerSecond();
+
+        Long etaSeconds = null;
+        if (job.status == Status.RUNNING && completed > 0 && tasksPerSecond > 0) {
+            etaSeconds = Math.round(Math.max(0, total - completed) / tasksPerSecond);
+        }
+
+        List<TaskProgress> tasks = null;
+        if (includeTasks) {
+            tasks = new ArrayList<>(job.countryCodes.size() * years);
+            for (String countryCode : job.countryCodes) {
+                for (int year = job.startYear; year <= job.endYear; year++) {
+                    tasks.add(run == null ? new TaskProgress(countryCode, year, TaskStatus.PENDING, 0)
+                        : run.progress(countryCode, year));
+                }
+            }
+        }
+
+        return new IngestionJobResponse(
+            job.id,
+            job.status,
+            job.startYear,
+            job.endYear,
+            job.submittedAt,
+            job.startedAt,
+            job.finishedAt,
+            total,
+            completed,
+            succeeded,
+            failed,
+            report == null ? 0 : report.saved(),
+            report == null ? 0 : report.retries(),
+            total == 0 ? (job.status.finished() ? 100 : 0) : Math.min(100, completed * 100.0 / total),
+            tasksPerSecond,
+            etaSeconds,
+            job.message,
+            tasks
+        );
+    }
+
+    /**
+     * 접수된 수집 작업 하나의 상태
+     */
+    private class IngestionJob {
+
+        private final String id;
+        private final int startYear;
+        private final int endYear;
+        private final List<String> countryCodes;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile Status status = Status.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String message;
+        // 끝난 작업의 수집 실행 상태 (실행 중에는 IngestionRunTracker 에서 조회)
+        private volatile IngestionRun run;
+
+        private IngestionJob(String id, int startYear, int endYear, List<String> countryCodes) {
+            this.id = id;
+            this.startYear = startYear;
+            this.endYear = endYear;
+            this.countryCodes = countryCodes;
+        }
+
+        private IngestionRun currentRun() {
+            IngestionRun finished = run;
+            return finished != null ? finished : ingestionRunTracker.requested(id).orElse(null);
+        }
+    }
+}
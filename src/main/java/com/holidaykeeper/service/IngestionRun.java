@@ -0,0 +1,353 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.HolidayIngestionProperties;
+import com.holidaykeeper.dto.HolidaySyncResult;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.dto.IngestionReport.TaskNote;
+import com.holidaykeeper.dto.response.IngestionJobResponse.TaskProgress;
+import com.holidaykeeper.dto.response.IngestionJobResponse.TaskStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 외부 API 수집 실행 한 번의 상태
+ * - 동시 요청 수는 AdaptiveConcurrencyLimiter 가 조절 (Reactor 엔진은 call, 가상 스레드 엔진은 callBlocking)
+ * - 과부하 오류(429/5xx/연결 오류)는 지터를 준 지수 백오프로 재시도 (429 의 Retry-After 우선)
+ * - 재시도는 실행 전체 예산(최소 예산 + 요청 수 × 비율) 안에서만 허용하여 장애 시 요청 폭증 방지
+ * - 수집 단계 → 저장 단계 대기 수와 저장 트랜잭션 수·시간을 집계
+ * - 재시도·실패한 (국가, 연도)를 모아 IngestionReport 로 정리
+ */
+public class IngestionRun {
+
+    private final HolidayIngestionProperties properties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final int tasks;
+
+    private final Map<TaskKey, TaskState> states = new ConcurrentHashMap<>();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger saved = new AtomicInteger();
+    private final AtomicInteger changed = new AtomicInteger();
+    private final AtomicInteger resumed = new AtomicInteger();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicBoolean retryBudgetExhausted = new AtomicBoolean();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong peakQueueDepth = new AtomicLong();
+    private final AtomicLong writeBatches = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private volatile LocalDateTime finishedAt;
+
+    public IngestionRun(HolidayIngestionProperties properties, int tasks) {
+        this.properties = properties;
+        this.tasks = tasks;
+        this.limiter = new AdaptiveConcurrencyLimiter(properties.initialConcurrency(),
+            properties.minConcurrency(), properties.maxConcurrency(), properties.decreaseRatio(),
+            properties.latencyThreshold());
+    }
+
+    /**
+     * 동시 요청 한도 안에서 외부 API 를 호출하고, 과부하 오류면 재시도하는 메서드
+     * (재시도 대기 중에는 허가를 반납하므로 다른 요청이 먼저 진행됨)
+     * @param countryCode 국가 코드
+     * @param year 연도
+     * @param request 외부 API 요청 (시도마다 새로 생성)
+     * @return 요청 결과
+     */
+    public <T> Mono<T> call(String countryCode, int year, Supplier<Mono<T>> request) {
+        TaskState state = states.computeIfAbsent(new TaskKey(countryCode, year), key -> new TaskState());
+        return Mono.defer(() -> {
+                state.attempts.incrementAndGet();
+                return limiter.limit(request.get());
+            })
+            .retryWhen(retry(state));
+    }
+
+    /**
+     * call 의 blocking 버전 (가상 스레드에서 호출, 재시도 대기도 호출 스레드에서 sleep)
+     * @param countryCode 국가 코드
+     * @param year 연도
+     * @param request 외부 API 요청 (시도마다 다시 호출)
+     * @return 요청 결과
+     */
+    public <T> T callBlocking(String countryCode, int year, Callable<T> request) throws Exception {
+        TaskState state = states.computeIfAbsent(new TaskKey(countryCode, year), key -> new TaskState());
+        for (long attempt = 0; ; attempt++) {
+            state.attempts.incrementAndGet();
+            try {
+                return limiter.limitBlocking(request);
+            } catch (Exception e) {
+                Duration delay = retryDelay(state, attempt, e);
+                if (delay == null) {
+                    throw e;
+                }
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    /**
+     * (국가, 연도) 동기화 성공 기록
+     * @param countryCode 국가 코드
+     * @param year 연도
+     * @param result 동기화 결과 (데이터가 없던 응답이면 null)
+     */
+    public void recordSuccess(String countryCode, int year, HolidaySyncResult result) {
+        states.computeIfAbsent(new TaskKey(countryCode, year), key -> new TaskState()).succeeded = true;
+        succeeded.incrementAndGet();
+        if (result != null) {
+            saved.addAndGet(result.inserted() + result.updated());
+            changed.addAndGet(result.written());
+        }
+    }
+
+    /**
+     * 재시작 전 실행에서 이미 커밋된 (국가, 연도) 기록 (진행률에는 포함, 처리량 계산에서는 제외)
+     * @param countryCode 국가 코드
+     * @param year 연도
+     */
+    public void recordResumed(String countryCode, int year) {
+        states.computeIfAbsent(new TaskKey(countryCode, year), key -> new TaskState()).succeeded = true;
+        succeeded.incrementAndGet();
+        resumed.incrementAndGet();
+    }
+
+    /**
+     * 수집 단계에서 저장 단계로 넘긴 (국가, 연도) 기록
+     */
+    public void recordQueued() {
+        long depth = queued.incrementAndGet() - written.get();
+        peakQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    /**
+     * 저장 트랜잭션 하나의 처리 기록
+     * @param size 트랜잭션에 묶인 (국가, 연도) 수
+     * @param nanos 걸린 시간
+     */
+    public void recordWriteBatch(int size, long nanos) {
+        written.addAndGet(size);
+        writeBatches.incrementAndGet();
+        writeNanos.addAndGet(nanos);
+    }
+
+    /**
+     * 실행 종료 기록
+     */
+    public void finish() {
+        finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재시도 후에도 실패하여 건너뛴 (국가, 연도) 기록
+     * @param countryCode 국가 코드
+     * @param year 연도
+     * @param error 마지막 오류
+     */
+    public void recordFailure(String countryCode, int year, Throwable error) {
+        failed.incrementAndGet();
+        TaskState state = states.computeIfAbsent(new TaskKey(countryCode, year), key -> new TaskState());
+        state.lastError = describe(error);
+        state.failed = true;
+    }
+
+    /**
+     * 성공한 (국가, 연도) 수
+     */
+    public int succeeded() {
+        return succeeded.get();
+    }
+
+    /**
+     * 실패한 (국가, 연도) 수
+     */
+    public int failed() {
+        return failed.get();
+    }
+
+    /**
+     * 추가·수정된 공휴일 수
+     */
+    public int saved() {
+        return saved.get();
+    }
+
+    /**
+     * 추가·수정·삭제된 공휴일 수 (데이터가 바뀌었는지 판단)
+     */
+    public int changed() {
+        return changed.get();
+    }
+
+    /**
+     * (국가, 연도) 하나의 진행 상황
+     * @param countryCode 국가 코드
+     * @param year 연도
+     * @return 진행 상태와 시도 횟수
+     */
+    public TaskProgress progress(String countryCode, int year) {
+        TaskState state = states.get(new TaskKey(countryCode, year));
+        if (state == null) {
+            return new TaskProgress(countryCode, year, TaskStatus.PENDING, 0);
+        }
+        TaskStatus status = state.failed ? TaskStatus.FAILED
+            : state.succeeded ? TaskStatus.SUCCEEDED
+            : TaskStatus.IN_PROGRESS;
+        return new TaskProgress(countryCode, year, status, state.attempts.get());
+    }
+
+    /**
+     * 수집은 끝났지만 아직 저장되지 않은 (국가, 연도) 수
+     */
+    public long queueDepth() {
+        return queued.get() - written.get();
+    }
+
+    /**
+     * 현재까지의 결과 보고서 (실행 중에도 호출 가능)
+     * @return 보고서
+     */
+    public IngestionReport report() {
+        List<TaskNote> retried = notes(false);
+        List<TaskNote> failures = notes(true);
+        double elapsedSeconds = Math.max(1, System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return new IngestionReport(
+            startedAt,
+            finishedAt,
+            tasks,
+            succeeded.get(),
+            failed.get(),
+            saved.get(),
+            limiter.requests(),
+            retries.get(),
+            limiter.throttled(),
+            retryBudgetExhausted.get(),
+            properties.initialConcurrency(),
+            limiter.peakLimit(),
+            limiter.currentLimit(),
+            queueDepth(),
+            peakQueueDepth.get(),
+            writeBatches.get(),
+            Duration.ofNanos(writeNanos.get()).toMillis(),
+            (succeeded.get() + failed.get() - resumed.get()) / elapsedSeconds,
+            retried,
+            failures
+        );
+    }
+
+    private List<TaskNote> notes(boolean failures) {
+        return states.entrySet().stream()
+            .filter(entry -> failures ? entry.getValue().failed
+                : !entry.getValue().failed && entry.getValue().attempts.get() > 1)
+            .map(entry -> new TaskNote(entry.getKey().countryCode(), entry.getKey().year(),
+                entry.getValue().attempts.get(), entry.getValue().lastError))
+            .sorted(Comparator.comparing(TaskNote::countryCode).thenComparingInt(TaskNote::year))
+            .toList();
+    }
+
+    private Retry retry(TaskState state) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable error = signal.failure();
+            Duration delay = retryDelay(state, signal.totalRetries(), error);
+            return delay == null ? Mono.<Long>error(error) : Mono.delay(delay);
+        }));
+    }
+
+    // 재시도할 오류면 대기 시간, 아니면 (재시도 횟수·예산 초과 포함) null
+    private Duration retryDelay(TaskState state, long attempt, Throwable error) {
+        state.lastError = describe(error);
+        if (!AdaptiveConcurrencyLimiter.isOverloadSignal(error) || attempt >= properties.maxRetries()) {
+            return null;
+        }
+        if (!tryAcquireRetry()) {
+            retryBudgetExhausted.set(true);
+            return null;
+        }
+        return backoff(attempt, error);
+    }
+
+    // 재시도 예산 : 최소 예산 + 지금까지 보낸 요청 수 × 비율
+    private boolean tryAcquireRetry() {
+        long allowed = properties.minRetryBudget() + (long) (properties.retryBudgetRatio() * limiter.requests());
+        while (true) {
+            long used = retries.get();
+            if (used >= allowed) {
+                return false;
+            }
+            if (retries.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 지수 백오프 (initialBackoff × 2^attempt, 상한 maxBackoff) 의 절반 ~ 전체 사이에서 무작위 대기
+    private Duration backoff(long attempt, Throwable error) {
+        long maxMillis = properties.maxBackoff().toMillis();
+        long baseMillis = Math.min(maxMillis, properties.initialBackoff().toMillis() << Math.min(attempt, 20));
+        long delayMillis = baseMillis / 2 + ThreadLocalRandom.current().nextLong(baseMillis / 2 + 1);
+
+        Long retryAfterMillis = retryAfterMillis(error);
+        if (retryAfterMillis != null) {
+            delayMillis = Math.max(delayMillis, Math.min(retryAfterMillis, maxMillis));
+        }
+        return Duration.ofMillis(delayMillis);
+    }
+
+    // 429/503 의 Retry-After (초 단위만 지원, HTTP-date 는 무시)
+    private static Long retryAfterMillis(Throwable error) {
+        HttpHeaders headers = null;
+        if (error instanceof WebClientResponseException responseException) {
+            headers = responseException.getHeaders();
+        } else if (error instanceof RestClientResponseException responseException) {
+            headers = responseException.getResponseHeaders();
+        }
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim())).toMillis();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String describe(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().value() + " " + responseException.getStatusText();
+        }
+        if (error instanceof RestClientResponseException responseException) {
+            return responseException.getStatusCode().value() + " " + responseException.getStatusText();
+        }
+        return error.getClass().getSimpleName() + ": " + error.getMessage();
+    }
+
+    private record TaskKey(String countryCode, int year) {
+
+    }
+
+    private static class TaskState {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile String lastError;
+        private volatile boolean succeeded;
+        private volatile boolean failed;
+    }
+}
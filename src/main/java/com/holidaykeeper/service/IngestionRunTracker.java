@@ -0,0 +1,108 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.HolidayIngestionProperties;
+import com.holidaykeeper.dto.IngestionReport;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행 중인 수집과 마지막 수집 실행 보고서 관리
+ * - 수집 엔진(HolidayKeeperService)과 Spring Batch 작업(HolidayIngestionJobListener)이 함께 사용
+ * - 비동기 수집 작업(IngestionJobService)이 요청한 실행은 요청 ID 로도 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionRunTracker {
+
+    private final HolidayIngestionProperties ingestionProperties;
+
+    private final AtomicReference<IngestionRun> activeRun = new AtomicReference<>();
+    private final AtomicReference<IngestionReport> lastReport = new AtomicReference<>();
+    private final Map<String, IngestionRun> requestedRuns = new ConcurrentHashMap<>();
+
+    /**
+     * 수집 실행 시작
+     * @param tasks 처리 대상 (국가, 연도) 수
+     * @return 수집 실행 상태
+     */
+    public IngestionRun start(int tasks) {
+        return start(tasks, null);
+    }
+
+    /**
+     * 요청 ID 가 있는 수집 실행 시작
+     * @param tasks 처리 대상 (국가, 연도) 수
+     * @param requestId 비동기 수집 작업 ID (없으면 null)
+     * @return 수집 실행 상태
+     */
+    public IngestionRun start(int tasks, String requestId) {
+        IngestionRun run = new IngestionRun(ingestionProperties, tasks);
+        activeRun.set(run);
+        if (requestId != null) {
+            requestedRuns.put(requestId, run);
+        }
+        return run;
+    }
+
+    /**
+     * 요청 ID 로 수집 실행 조회 (아직 시작 전이면 empty)
+     * @param requestId 비동기 수집 작업 ID
+     * @return 수집 실행 상태
+     */
+    public Optional<IngestionRun> requested(String requestId) {
+        return Optional.ofNullable(requestedRuns.get(requestId));
+    }
+
+    /**
+     * 요청 ID 연결 해제 (비동기 수집 작업 종료 시)
+     * @param requestId 비동기 수집 작업 ID
+     */
+    public void release(String requestId) {
+        requestedRuns.remove(requestId);
+    }
+
+    /**
+     * 수집 실행 종료 : 보고서를 만들고 재시도·건너뜀 내역을 로그로 기록
+     * @param run 수집 실행 상태
+     * @param engine 수집 엔진 이름 (로그 표시용)
+     * @return 실행 보고서
+     */
+    public IngestionReport finish(IngestionRun run, String engine) {
+        run.finish();
+        IngestionReport report = run.report();
+        lastReport.set(report);
+        activeRun.compareAndSet(run, null);
+
+        log.info("[IngestionRunTracker] Ingestion finished ({}): tasks {}, succeeded {}, failed {}, requests {}, "
+                + "retries {}, throttled {}, concurrency {} -> peak {} -> {}, write batches {} ({} ms), "
+                + "peak queue depth {}, {} tasks/s",
+            engine, report.tasks(), report.succeeded(), report.failed(), report.requests(), report.retries(),
+            report.throttled(), report.initialConcurrency(), report.peakConcurrency(), report.finalConcurrency(),
+            report.writeBatches(), report.writeMillis(), report.peakQueueDepth(),
+            String.format("%.1f", report.tasksPerSecond()));
+        if (report.retryBudgetExhausted()) {
+            log.warn("[IngestionRunTracker] 재시도 예산을 모두 사용하여 일부 요청을 재시도하지 못했습니다.");
+        }
+        report.failures().forEach(failure -> log.warn("[IngestionRunTracker] {}-{} 건너뜀 (시도 {}회): {}",
+            failure.countryCode(), failure.year(), failure.attempts(), failure.reason()));
+        return report;
+    }
+
+    /**
+     * 수집 실행 보고서 (실행 중이면 현재까지의 진행 상황, 아니면 마지막 실행 결과)
+     * @return 보고서 (아직 실행 전이면 empty)
+     */
+    public Optional<IngestionReport> current() {
+        IngestionRun run = activeRun.get();
+        if (run != null) {
+            return Optional.of(run.report());
+        }
+        return Optional.ofNullable(lastReport.get());
+    }
+}
@@ -0,0 +1,102 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.HolidayIngestionProperties;
+import com.holidaykeeper.dto.HolidaySyncCommand;
+import com.holidaykeeper.dto.HolidaySyncKey;
+import com.holidaykeeper.dto.HolidayUpstreamValidators;
+import com.holidaykeeper.entity.Country;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * Reactor 수집 엔진 (기본값)
+ *
+ * Flux 구조
+ *  - 수집 단계 : 국가 × 연도 조합을 병렬(flatMap) 요청 (WebClient), 실제 동시 요청 수는 적응형 리미터가 제한
+ *              (검증값은 시작 시 한 번에 조회하므로 이 단계에서는 DB 를 쓰지 않음)
+ *  - 버퍼 : 쓰기 요청을 writeBatchSize 개 또는 writeFlushInterval 마다 묶음 (bufferTimeout)
+ *  - 저장 단계 : 묶음 하나를 트랜잭션 하나로 반영하는 단일 writer (concatMap)
+ *              대기 묶음이 writeQueueBatches 개를 넘으면 요청을 멈춰 수집 단계까지 backpressure 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "holiday-keeper.ingestion.engine", havingValue = "reactor", matchIfMissing = true)
+public class ReactorIngestionEngine implements IngestionEngine {
+
+    private final HolidayUpstreamClient holidayUpstreamClient;
+    private final HolidaySyncStages holidaySyncStages;
+    private final HolidayIngestionProperties ingestionProperties;
+
+    @Override
+    public String name() {
+        return "reactor";
+    }
+
+    @Override
+    public void ingest(List<Country> countries, List<Integer> years,
+        Map<HolidaySyncKey, HolidayUpstreamValidators> validators, IngestionRun run) {
+        Flux.fromIterable(countries)
+            .concatMapIterable(country -> years.stream().map(year -> Tuples.of(country, year)).toList())
+            .flatMap(task -> fetch(task, validators, run), ingestionProperties.maxConcurrency())
+            .bufferTimeout(ingestionProperties.writeBatchSize(), ingestionProperties.writeFlushInterval(), true)
+            // DB 저장이 blocking이므로 elastic에서 수행 (concatMap 이므로 한 번에 한 묶음만 저장)
+            .concatMap(batch -> Mono.fromRunnable(() -> holidaySyncStages.write(batch, run))
+                    .subscribeOn(Schedulers.boundedElastic()),
+                ingestionProperties.writeQueueBatches())
+            // 모든 처리 완료까지 대기 (배치 용도라 blockLast 사용)
+            .blockLast();
+    }
+
+    /**
+     * 수집 단계 : 특정 국가/특정 연도의 공휴일 데이터를 외부 API에서 조회하여 쓰기 요청으로 변환.
+     * - 마지막 응답의 ETag / Last-Modified 로 조건부 요청
+     * - 429/5xx/연결 오류는 지터를 준 지수 백오프로 재시도 (실행 전체 재시도 예산 안에서)
+     * - 재시도 후에도 실패하면 보고서에 기록하고 건너뜀
+     * @param task 조회할 (국가, 년도)
+     * @param validators 시작 시 조회한 검증값
+     * @param run 수집 실행 상태
+     * @return 저장 단계로 넘길 쓰기 요청 (쓸 내용이 없으면 empty)
+     */
+    private Mono<HolidaySyncCommand> fetch(Tuple2<Country, Integer> task,
+        Map<HolidaySyncKey, HolidayUpstreamValidators> validators, IngestionRun run) {
+        Country country = task.getT1();
+        int year = task.getT2();
+        String countryCode = country.getCountryCode();
+        HolidayUpstreamValidators previous = validators.get(new HolidaySyncKey(countryCode, year));
+
+        return command(country, year, previous, run)
+            // 재시도 후에도 실패하면 보고서에 기록 + 로그
+            .doOnError(e -> {
+                run.recordFailure(countryCode, year, e);
+                log.error("[ReactorIngestionEngine] {}-{} 실패: {}", countryCode, year, e.getMessage());
+            })
+            // 오류 발생해도 전체 플로우는 계속 진행
+            .onErrorResume(e -> Mono.empty());
+    }
+
+    @Override
+    public CompletableFuture<HolidaySyncCommand> fetchAsync(Country country, int year,
+        HolidayUpstreamValidators previous, IngestionRun run) {
+        return command(country, year, previous, run).toFuture();
+    }
+
+    // 외부 API 조회 → 쓰기 요청 변환 (재시도 후에도 실패하면 오류 그대로 전달)
+    private Mono<HolidaySyncCommand> command(Country country, int year, HolidayUpstreamValidators previous,
+        IngestionRun run) {
+        String countryCode = country.getCountryCode();
+        return run.call(countryCode, year, () -> holidayUpstreamClient.fetch(countryCode, year, previous))
+            .mapNotNull(response -> holidaySyncStages.toCommand(country, year, previous, response, run))
+            .doOnNext(command -> run.recordQueued());
+    }
+}
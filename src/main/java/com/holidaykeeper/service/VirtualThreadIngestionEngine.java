@@ -0,0 +1,238 @@
+package com.holidaykeeper.service;
+
+import com.holidaykeeper.config.HolidayIngestionProperties;
+import com.holidaykeeper.dto.HolidaySyncCommand;
+import com.holidaykeeper.dto.HolidaySyncKey;
+import com.holidaykeeper.dto.HolidayUpstreamValidators;
+import com.holidaykeeper.entity.Country;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 수집 엔진 (holiday-keeper.ingestion.engine=virtual-threads)
+ * - (국가, 연도) 하나당 가상 스레드 하나 : blocking RestClient 로 요청 → 응답 변환
+ * - 외부 API 동시 요청 수는 Reactor 엔진과 같은 적응형 리미터가 제한 (허가를 기다리는 동안 가상 스레드만 대기)
+ * - 저장 단계 : 대기 쓰기 요청 수를 세마포어(writeBatchSize × writeQueueBatches)로 제한하고,
+ *              단일 writer 스레드가 writeBatchSize 개 또는 writeFlushInterval 마다 트랜잭션 하나로 저장
+ *              (세마포어 허가가 없으면 수집 스레드가 대기하여 backpressure 역할)
+ *              writer 가 예외로 멈추면 대기 중인 수집 스레드를 깨워 실패로 기록하고, 실행은 예외로 끝남
+ * - 스케줄러 전환 없이 호출 순서 그대로의 스택 트레이스가 남음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "holiday-keeper.ingestion.engine", havingValue = "virtual-threads")
+public class VirtualThreadIngestionEngine implements IngestionEngine {
+
+    private final HolidayUpstreamClient holidayUpstreamClient;
+    private final HolidaySyncStages holidaySyncStages;
+    private final HolidayIngestionProperties ingestionProperties;
+
+    // fetchAsync 용 가상 스레드 ((국가, 연도) 하나당 하나)
+    private final ThreadFactory fetchThreads = Thread.ofVirtual().name("holiday-sync-fetch-", 0).factory();
+
+    @Override
+    public String name() {
+        return "virtual-threads";
+    }
+
+    @Override
+    public void ingest(List<Country> countries, List<Integer> years,
+        Map<HolidaySyncKey, HolidayUpstreamValidators> validators, IngestionRun run) {
+        WriteStage writeStage = new WriteStage(run);
+        Thread writer = Thread.ofVirtual().name("holiday-sync-writer").start(writeStage::drain);
+
+        // 모든 (국가, 연도) 작업이 끝날 때까지 close() 에서 대기
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Country country : countries) {
+                for (int year : years) {
+                    executor.submit(() -> fetch(country, year, validators, run, writeStage));
+                }
+            }
+        }
+
+        writeStage.close();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("저장 단계 종료를 기다리는 중 중단되었습니다", e);
+        }
+        writeStage.throwIfFailed();
+    }
+
+    /**
+     * 수집 단계 : 특정 국가/특정 연도의 공휴일 데이터를 외부 API에서 조회하여 저장 단계로 넘김
+     * - 429/5xx/연결 오류는 지터를 준 지수 백오프로 재시도 (실행 전체 재시도 예산 안에서)
+     * - 재시도 후에도 실패하면 보고서에 기록하고 건너뜀
+     */
+    private void fetch(Country country, int year, Map<HolidaySyncKey, HolidayUpstreamValidators> validators,
+        IngestionRun run, WriteStage writeStage) {
+        String countryCode = country.getCountryCode();
+        HolidayUpstreamValidators previous = validators.get(new HolidaySyncKey(countryCode, year));
+        try {
+            HolidaySyncCommand command = command(country, year, previous, run);
+            if (command != null) {
+                writeStage.put(command);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.recordFailure(countryCode, year, e);
+        } catch (Exception e) {
+            run.recordFailure(countryCode, year, e);
+            log.error("[VirtualThreadIngestionEngine] {}-{} 실패: {}", countryCode, year, e.getMessage());
+        }
+    }
+
+    @Override
+    public CompletableFuture<HolidaySyncCommand> fetchAsync(Country country, int year,
+        HolidayUpstreamValidators previous, IngestionRun run) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                HolidaySyncCommand command = command(country, year, previous, run);
+                if (command != null) {
+                    run.recordQueued();
+                }
+                return command;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, task -> fetchThreads.newThread(task).start());
+    }
+
+    // 외부 API 조회 → 쓰기 요청 변환 (재시도 후에도 실패하면 예외 그대로 전달)
+    private HolidaySyncCommand command(Country country, int year, HolidayUpstreamValidators previous,
+        IngestionRun run) throws Exception {
+        String countryCode = country.getCountryCode();
+        return holidaySyncStages.toCommand(country, year, previous,
+            run.callBlocking(countryCode, year, () -> holidayUpstreamClient.fetchBlocking(countryCode, year,
+                previous)),
+            run);
+    }
+
+    /**
+     * 세마포어로 대기 수를 제한한 저장 단계 (단일 writer)
+     */
+    private class WriteStage {
+
+        private final IngestionRun run;
+        private final Semaphore capacity;
+        private final ConcurrentLinkedQueue<HolidaySyncCommand> pending = new ConcurrentLinkedQueue<>();
+        // 새 쓰기 요청 도착 또는 종료를 writer 에게 알림
+        private final Semaphore signals = new Semaphore(0);
+        private volatile boolean closed;
+        private volatile Throwable failure;
+
+        private WriteStage(IngestionRun run) {
+            this.run = run;
+            this.capacity = new Semaphore(ingestionProperties.writeBatchSize() * ingestionProperties.writeQueueBatches());
+        }
+
+        // 수집 스레드 : 대기 자리가 날 때까지 기다린 뒤 넘김 (writer 가 멈췄으면 예외로 알림)
+        private void put(HolidaySyncCommand command) throws InterruptedException {
+            capacity.acquire();
+            checkWriter();
+            pending.add(command);
+            // writer 가 멈춘 뒤 넣었고 아직 남아 있으면 (writer 쪽에서 실패로 기록하지 않았으면) 직접 알림
+            if (failure != null && pending.remove(command)) {
+                checkWriter();
+            }
+            run.recordQueued();
+            signals.release();
+        }
+
+        private void checkWriter() {
+            if (failure != null) {
+                throw new IllegalStateException("저장 단계가 멈춰 저장하지 못했습니다: " + failure.getMessage(), failure);
+            }
+        }
+
+        private void throwIfFailed() {
+            if (failure != null) {
+                throw new IllegalStateException("저장 단계가 실패했습니다: " + failure.getMessage(), failure);
+            }
+        }
+
+        private void close() {
+            closed = true;
+            signals.release();
+        }
+
+        // writer 스레드 : writeBatchSize 개가 모이거나 첫 요청 이후 writeFlushInterval 이 지나면 저장
+        private void drain() {
+            int batchSize = ingestionProperties.writeBatchSize();
+            long flushNanos = ingestionProperties.writeFlushInterval().toNanos();
+            List<HolidaySyncCommand> batch = new ArrayList<>(batchSize);
+            long deadline = 0;
+            try {
+                while (true) {
+                    boolean signalled = batch.isEmpty()
+                        ? acquireSignal()
+                        : signals.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                    HolidaySyncCommand command = pending.poll();
+                    if (command != null) {
+                        if (batch.isEmpty()) {
+                            deadline = System.nanoTime() + flushNanos;
+                        }
+                        batch.add(command);
+                    }
+
+                    boolean finished = closed && pending.isEmpty();
+                    if (!batch.isEmpty() && (batch.size() >= batchSize || !signalled || finished
+                        || System.nanoTime() >= deadline)) {
+                        flush(batch);
+                    }
+                    if (finished) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException | Error e) {
+                fail(batch, e);
+            }
+        }
+
+        // writer 가 멈춤 : 저장하지 못한 요청을 실패로 기록하고, 대기 자리를 기다리는 수집 스레드를 모두 깨움
+        private void fail(List<HolidaySyncCommand> batch, Throwable error) {
+            log.error("[VirtualThreadIngestionEngine] 저장 단계 실패: {}", error.getMessage(), error);
+            failure = error;
+            List<HolidaySyncCommand> unwritten = new ArrayList<>(batch);
+            for (HolidaySyncCommand command = pending.poll(); command != null; command = pending.poll()) {
+                unwritten.add(command);
+            }
+            for (HolidaySyncCommand command : unwritten) {
+                run.recordFailure(command.country().getCountryCode(), command.year(), error);
+            }
+            capacity.release(Integer.MAX_VALUE / 2);
+        }
+
+        private boolean acquireSignal() throws InterruptedException {
+            signals.acquire();
+            return true;
+        }
+
+        private void flush(List<HolidaySyncCommand> batch) {
+            holidaySyncStages.write(List.copyOf(batch), run);
+            capacity.release(batch.size());
+            batch.clear();
+        }
+    }
+}
@@ -2,7 +2,8 @@ CREATE TABLE IF NOT EXISTS tbl_countries
 (
     id              UUID            PRIMARY KEY,
     country_code    VARCHAR(10)     NOT NULL,
-    name            VARCHAR(100)    NOT NULL
+    name            VARCHAR(100)    NOT NULL,
+    CONSTRAINT uq_countries_country_code UNIQUE (country_code)
 );
 
 
@@ -17,6 +18,31 @@ CREATE TABLE IF NOT EXISTS tbl_holidays
     global          BOOLEAN         NOT NULL,
     counties        TEXT            ,
     launch_year     INT             ,
-    types           TEXT            ,
+    type_mask       INT             DEFAULT 0 NOT NULL,
+    name_search     VARCHAR(400)    DEFAULT '' NOT NULL,
+    local_name_search VARCHAR(2000) DEFAULT '' NOT NULL,
+    CONSTRAINT uq_holidays_natural_key UNIQUE (country_id, date, name),
     CONSTRAINT fk_holiday_country FOREIGN KEY (country_id) REFERENCES tbl_countries(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+-- 커서 검색 정렬키(buildOrderSpecifier)와 일치하는 복합 인덱스 (id 는 tie-breaker)
+CREATE INDEX IF NOT EXISTS idx_holidays_country_date_id ON tbl_holidays (country_id, date, id);
+CREATE INDEX IF NOT EXISTS idx_holidays_date_id ON tbl_holidays (date, id);
+CREATE INDEX IF NOT EXISTS idx_holidays_name_id ON tbl_holidays (name, id);
+-- 국가 + 타입 검색 : type_mask IN (타입 비트를 포함하는 마스크) 를 국가 안에서 범위 탐색
+CREATE INDEX IF NOT EXISTS idx_holidays_country_type_date_id ON tbl_holidays (country_id, type_mask, date, id);
+
+
+CREATE TABLE IF NOT EXISTS tbl_holiday_sync_states
+(
+    id              UUID            PRIMARY KEY,
+    country_id      UUID            NOT NULL,
+    holiday_year    INT             NOT NULL,
+    content_hash    VARCHAR(64)     NOT NULL,
+    upstream_etag   VARCHAR(255),
+    upstream_last_modified VARCHAR(64),
+    payload_hash    VARCHAR(64),
+    synced_at       TIMESTAMP       NOT NULL,
+    CONSTRAINT uq_sync_states_country_year UNIQUE (country_id, holiday_year),
+    CONSTRAINT fk_sync_state_country FOREIGN KEY (country_id) REFERENCES tbl_countries(id) ON DELETE CASCADE
+);
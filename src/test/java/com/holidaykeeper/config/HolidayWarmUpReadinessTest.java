@@ -0,0 +1,114 @@
+package com.holidaykeeper.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.holidaykeeper.service.HolidayWarmUpState;
+import com.holidaykeeper.service.HolidayWarmUpState.Phase;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 기동 시 적재를 백그라운드에서 진행하는지 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - 외부 API 응답을 막아 두어도 컨텍스트 기동은 끝나고, 준비 상태는 OUT_OF_SERVICE
+ * - 올해 적재가 끝나면 준비 상태(UP), 지난 연도 적재 중에는 부분 데이터 헤더 유지
+ * - 모두 적재하면 부분 데이터 헤더 제거
+ */
+@SpringBootTest(properties = "holiday-keeper.warm-up.past-years=2")
+@AutoConfigureMockMvc
+class HolidayWarmUpReadinessTest {
+
+    private static final int THIS_YEAR = LocalDate.now().getYear();
+    private static final String CHECK_URL = "/api/holidays/AA/check?date=" + THIS_YEAR + "-01-01";
+
+    private static final CountDownLatch currentYearGate = new CountDownLatch(1);
+    private static final CountDownLatch pastYearsGate = new CountDownLatch(1);
+
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(List.of("AA"),
+        HolidayWarmUpReadinessTest::handle, Executors.newCachedThreadPool());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        currentYearGate.countDown();
+        pastYearsGate.countDown();
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "warm-up-readiness");
+    }
+
+    @Test
+    void readinessFollowsWarmUp() throws Exception {
+        // 1. 외부 API 응답 대기 중에도 기동 완료 : 준비 전, 부분 데이터
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/actuator/health/liveness"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get(CHECK_URL))
+            .andExpect(header().string(HolidayDataStatusInterceptor.DATA_STATUS_HEADER, "partial"))
+            .andExpect(header().string(HolidayDataStatusInterceptor.LOADED_YEARS_HEADER, "none"));
+
+        // 2. 올해 적재 완료 : 준비 상태, 지난 연도는 적재 중
+        currentYearGate.countDown();
+        awaitPhase(Phase.CURRENT_YEAR_LOADED);
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.components.holidayWarmUp.details.loadedYears").value(String.valueOf(THIS_YEAR)));
+        mockMvc.perform(get(CHECK_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.holiday").value(true))
+            .andExpect(header().string(HolidayDataStatusInterceptor.DATA_STATUS_HEADER, "partial"))
+            .andExpect(header().string(HolidayDataStatusInterceptor.LOADED_YEARS_HEADER, String.valueOf(THIS_YEAR)));
+
+        // 3. 지난 연도까지 적재 완료 : 부분 데이터 헤더 없음
+        pastYearsGate.countDown();
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+        assertThat(holidayWarmUpState.phase()).isEqualTo(Phase.COMPLETED);
+        mockMvc.perform(get(CHECK_URL))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HolidayDataStatusInterceptor.DATA_STATUS_HEADER));
+    }
+
+    private void awaitPhase(Phase phase) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (holidayWarmUpState.phase() != phase) {
+            assertThat(System.nanoTime()).as("warm-up phase %s", phase).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        try {
+            (year == THIS_YEAR ? currentYearGate : pastYearsGate).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.newYearJson(year, countryCode));
+    }
+}
@@ -0,0 +1,117 @@
+package com.holidaykeeper.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.dto.response.HolidayCheckResponse;
+import com.holidaykeeper.exception.ErrorResponse;
+import com.holidaykeeper.service.HolidayWarmUpState;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 공휴일 여부 일괄 확인 API 의 항목 검증과 건수 제한 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - 정상 항목은 요청 순서대로 판정
+ * - countryCode 가 없거나 비었거나 date 가 없는 항목은 몇 번째 항목인지와 함께 400 (JSON 배열, NDJSON 모두)
+ * - JSON 배열도 NDJSON 처럼 읽는 도중 최대 건수를 넘으면 400
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "holiday-keeper.warm-up.past-years=0",
+        // 건수 초과로 본문을 다 읽기 전에 응답해도 클라이언트가 400 응답을 받을 수 있도록 남은 본문을 모두 흘려보냄
+        "server.tomcat.max-swallow-size=-1"
+    }
+)
+class HolidayCheckBatchApiTest {
+
+    private static final int THIS_YEAR = LocalDate.now().getYear();
+    private static final String URL = "/api/holidays/check-batch";
+
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(List.of("XA"),
+        HolidayCheckBatchApiTest::handle);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "check-batch-api");
+    }
+
+    @Test
+    void validatesEachItemAndLimitsBatchWhileStreaming() throws Exception {
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+
+        // 1. 정상 항목 : 요청 순서대로 판정
+        ResponseEntity<List<HolidayCheckResponse>> ok = restTemplate.exchange(URL, HttpMethod.POST,
+            request(MediaType.APPLICATION_JSON, "[" + item("XA", THIS_YEAR + "-01-01") + ","
+                + item("XA", THIS_YEAR + "-01-02") + "]"),
+            new ParameterizedTypeReference<>() {
+            });
+        assertThat(ok.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ok.getBody()).extracting(HolidayCheckResponse::holiday).containsExactly(true, false);
+
+        // 2. countryCode 누락 / 공백, date 누락 : 배치 전체가 NPE(500) 나 404 가 아닌 400
+        assertBadRequest(MediaType.APPLICATION_JSON,
+            "[" + item("XA", THIS_YEAR + "-01-01") + ",{\"date\":\"" + THIS_YEAR + "-01-01\"}]", "2번째 항목");
+        assertBadRequest(MediaType.APPLICATION_JSON, "[" + item(" ", THIS_YEAR + "-01-01") + "]", "1번째 항목");
+        assertBadRequest(MediaType.APPLICATION_JSON, "[null]", "1번째 항목");
+        assertBadRequest(MediaType.APPLICATION_NDJSON,
+            item("XA", THIS_YEAR + "-01-01") + "\n{\"countryCode\":\"XA\"}\n", "2번째 항목");
+
+        // 3. JSON 배열 건수 제한 : 100,000건을 넘으면 400
+        String tooMany = IntStream.range(0, 100_001)
+            .mapToObj(i -> item("XA", THIS_YEAR + "-01-01"))
+            .collect(Collectors.joining(",", "[", "]"));
+        assertBadRequest(MediaType.APPLICATION_JSON, tooMany, "100000");
+    }
+
+    private void assertBadRequest(MediaType contentType, String body, String message) {
+        ResponseEntity<ErrorResponse> response = restTemplate.exchange(URL, HttpMethod.POST,
+            request(contentType, body), ErrorResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).contains(message);
+    }
+
+    private static HttpEntity<String> request(MediaType contentType, String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static String item(String countryCode, String date) {
+        return "{\"countryCode\":\"" + countryCode + "\",\"date\":\"" + date + "\"}";
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.newYearJson(year, countryCode));
+    }
+}
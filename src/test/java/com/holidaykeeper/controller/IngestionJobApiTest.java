@@ -0,0 +1,155 @@
+package com.holidaykeeper.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.dto.response.IngestionJobResponse;
+import com.holidaykeeper.dto.response.IngestionJobResponse.Status;
+import com.holidaykeeper.dto.response.IngestionJobResponse.TaskProgress;
+import com.holidaykeeper.dto.response.IngestionJobResponse.TaskStatus;
+import com.holidaykeeper.service.HolidayWarmUpState;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 비동기 수집 작업 API 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - 접수 : 202 + Location (작업 조회 주소), 같은 범위를 다시 접수하면 같은 작업
+ * - 조회 : 실행 중에는 (국가, 연도) 별 진행 상황, 끝나면 모두 성공
+ * - 구독 : progress 이벤트 후 작업이 끝나면 finished 이벤트를 보내고 종료
+ * - 스텁 서버는 작업 연도의 응답을 release 가 열릴 때까지 붙잡아 작업을 실행 중으로 유지
+ *   (외부 API 응답 제한 시간 10초 안에서)
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "holiday-keeper.ingestion-jobs.progress-interval=100ms"
+)
+class IngestionJobApiTest {
+
+    private static final int START_YEAR = 2010;
+    private static final int END_YEAR = 2011;
+    private static final List<String> COUNTRIES = List.of("JA", "JB");
+
+    private static final CountDownLatch requested = new CountDownLatch(1);
+    private static final CountDownLatch release = new CountDownLatch(1);
+
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(COUNTRIES,
+        IngestionJobApiTest::handle, Executors.newFixedThreadPool(4));
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @LocalServerPort
+    private int port;
+
+    @AfterAll
+    static void stopServer() {
+        release.countDown();
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "ingestion-job-api");
+    }
+
+    @Test
+    void submitsCoalescesReportsAndStreamsIngestionJob() throws Exception {
+        // 기동 시 적재 작업이 끝난 뒤 접수 (작업은 한 번에 하나씩 실행)
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+
+        // 1. 접수 : 202 + Location
+        ResponseEntity<IngestionJobResponse> accepted = submit(START_YEAR, END_YEAR);
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        String jobId = accepted.getBody().jobId();
+        URI location = accepted.getHeaders().getLocation();
+        assertThat(location).hasToString("/api/holidays/ingestion/jobs/" + jobId);
+        assertThat(accepted.getBody().total()).isEqualTo(COUNTRIES.size() * 2);
+
+        // 2. 실행 중 같은 범위 접수 : 새 작업을 만들지 않음
+        assertThat(requested.await(10, TimeUnit.SECONDS)).isTrue();
+        ResponseEntity<IngestionJobResponse> coalesced = submit(START_YEAR, END_YEAR);
+        assertThat(coalesced.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(coalesced.getBody().jobId()).isEqualTo(jobId);
+
+        // 범위를 벗어난 연도는 거절
+        assertThat(restTemplate.postForEntity("/api/holidays?startYear=-2000000000&endYear=2000000000", null,
+            String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // 3. 실행 중 조회 : (국가, 연도) 별 진행 상황
+        IngestionJobResponse running = restTemplate.getForObject(location.toString(), IngestionJobResponse.class);
+        assertThat(running.status()).isEqualTo(Status.RUNNING);
+        assertThat(running.tasks()).hasSize(COUNTRIES.size() * 2);
+        assertThat(running.tasks()).extracting(TaskProgress::status)
+            .contains(TaskStatus.IN_PROGRESS)
+            .doesNotContain(TaskStatus.FAILED);
+
+        // 4. 구독 : 응답 헤더를 받은 시점에 구독이 등록되어 있음 → 작업을 진행시키고 종료까지 읽음
+        HttpResponse<Stream<String>> events = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + location + "/events"))
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofSeconds(30))
+                .build(),
+            BodyHandlers.ofLines());
+        assertThat(events.statusCode()).isEqualTo(200);
+        release.countDown();
+        List<String> lines = events.body().toList();
+
+        List<String> names = lines.stream()
+            .filter(line -> line.startsWith("event:"))
+            .map(line -> line.substring("event:".length()).trim())
+            .toList();
+        assertThat(names).first().isEqualTo("progress");
+        assertThat(names).last().isEqualTo("finished");
+        assertThat(names).filteredOn("finished"::equals).hasSize(1);
+        assertThat(lines.stream().filter(line -> line.startsWith("data:")).toList().getLast())
+            .contains("\"status\":\"COMPLETED\"");
+
+        // 5. 종료 후 조회 : 모든 (국가, 연도) 성공
+        IngestionJobResponse finished = restTemplate.getForObject(location.toString(), IngestionJobResponse.class);
+        assertThat(finished.status()).isEqualTo(Status.COMPLETED);
+        assertThat(finished.percent()).isEqualTo(100.0);
+        assertThat(finished.succeeded()).isEqualTo(COUNTRIES.size() * 2);
+        assertThat(finished.tasks()).extracting(TaskProgress::status).containsOnly(TaskStatus.SUCCEEDED);
+    }
+
+    private ResponseEntity<IngestionJobResponse> submit(int startYear, int endYear) {
+        return restTemplate.postForEntity("/api/holidays?startYear=" + startYear + "&endYear=" + endYear, null,
+            IngestionJobResponse.class);
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        if (year <= END_YEAR) {
+            requested.countDown();
+            try {
+                release.await(8, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.newYearJson(year, countryCode));
+    }
+}
@@ -0,0 +1,94 @@
+package com.holidaykeeper.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.config.HolidayWriteProperties;
+import com.holidaykeeper.config.QuerydslConfig;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.entity.Holiday;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * saveAll(JPA) 과 HolidayJdbcRepository(JDBC 배치) 저장 속도 비교
+ * - 실행 : ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, HolidayJdbcRepository.class})
+@EnableConfigurationProperties(HolidayWriteProperties.class)
+class HolidayBulkInsertBenchmarkTest {
+
+    // 국가 120개 × 6년 적재와 비슷한 규모
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayJdbcRepository holidayJdbcRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Country country;
+
+    @BeforeEach
+    void setUp() {
+        country = countryRepository.saveAndFlush(new Country("ZZ", "Benchmark"));
+    }
+
+    @Test
+    void jpaSaveAll() {
+        List<Holiday> holidays = holidays(ROWS);
+
+        long start = System.nanoTime();
+        holidayRepository.saveAll(holidays);
+        entityManager.flush();
+        report("JPA saveAll", start);
+
+        entityManager.clear();
+        assertThat(holidayRepository.count()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void jdbcBatchInsert() {
+        List<Holiday> holidays = holidays(ROWS);
+
+        long start = System.nanoTime();
+        holidayJdbcRepository.insertAll(holidays);
+        report("JDBC batch insert", start);
+
+        assertThat(holidayRepository.count()).isEqualTo(ROWS);
+    }
+
+    private List<Holiday> holidays(int rows) {
+        LocalDate base = LocalDate.of(2000, 1, 1);
+        List<Holiday> holidays = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            holidays.add(new Holiday(base.plusDays(i % 9_000), "휴일 " + i, "Holiday " + i, country,
+                false, true, List.of(), null, List.of("Public")));
+        }
+        return holidays;
+    }
+
+    private void report(String label, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("[Benchmark] %-18s %,d rows in %.3fs (%,.0f rows/sec)%n",
+            label, ROWS, seconds, ROWS / seconds);
+    }
+}
@@ -0,0 +1,125 @@
+package com.holidaykeeper.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.config.HolidayWriteProperties;
+import com.holidaykeeper.config.QuerydslConfig;
+import com.holidaykeeper.dto.HolidayDto;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.entity.Holiday;
+import com.holidaykeeper.entity.QHoliday;
+import com.holidaykeeper.mapper.HolidayMapper;
+import com.holidaykeeper.mapper.HolidayMapperImpl;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 1000건 검색 페이지 조회 시 엔티티 조회 + 매핑 과 DTO 프로젝션 조회 비교 (지연 시간, 할당 바이트)
+ * - 실행 : ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, HolidayJdbcRepository.class, HolidayMapperImpl.class})
+@EnableConfigurationProperties(HolidayWriteProperties.class)
+class HolidaySearchProjectionBenchmarkTest {
+
+    private static final int PAGE_SIZE = 1_000;
+    private static final int COUNTRIES = 20;
+    private static final int ROWS_PER_COUNTRY = 500;
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 50;
+
+    private final QHoliday holiday = QHoliday.holiday;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepositoryCustom holidayRepositoryCustom;
+
+    @Autowired
+    private HolidayJdbcRepository holidayJdbcRepository;
+
+    @Autowired
+    private HolidayMapper holidayMapper;
+
+    // 엔티티 조회 기준선 (운영 코드는 DTO 프로젝션만 사용)
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate base = LocalDate.of(2000, 1, 1);
+        List<Holiday> holidays = new ArrayList<>(COUNTRIES * ROWS_PER_COUNTRY);
+        for (int c = 0; c < COUNTRIES; c++) {
+            Country country = countryRepository.save(new Country("Z" + (char) ('A' + c), "Benchmark " + c));
+            for (int i = 0; i < ROWS_PER_COUNTRY; i++) {
+                holidays.add(new Holiday(base.plusDays(i * 7L), "휴일 " + i, "Holiday " + i, country,
+                    false, true, List.of("ZZ-01", "ZZ-02"), null, List.of("Public", "Bank")));
+            }
+        }
+        countryRepository.flush();
+        holidayJdbcRepository.insertAll(holidays);
+        entityManager.clear();
+    }
+
+    @Test
+    void entityThenMapper() {
+        measure("entity + mapper", () -> {
+            List<HolidayDto> page = jpaQueryFactory.selectFrom(holiday)
+                .orderBy(holiday.date.asc(), holiday.id.asc())
+                .limit(PAGE_SIZE)
+                .fetch()
+                .stream()
+                .map(holidayMapper::toDto)
+                .toList();
+            // 엔티티는 영속성 컨텍스트에 남으므로 매 반복마다 비워서 같은 조건으로 비교
+            entityManager.clear();
+            return page;
+        });
+    }
+
+    @Test
+    void dtoProjection() {
+        measure("dto projection", () -> holidayRepositoryCustom.findHolidayDtosWithCursor(null, null, PAGE_SIZE,
+            "date", "ASC", null, null, null, null, null, null));
+    }
+
+    private void measure(String label, Supplier<List<HolidayDto>> page) {
+        for (int i = 0; i < WARM_UP; i++) {
+            assertThat(page.get()).hasSize(PAGE_SIZE);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long startBytes = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<HolidayDto> result = page.get();
+            assertThat(result.getFirst().countryCode()).isNotNull();
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        long bytes = (threads.getThreadAllocatedBytes(threadId) - startBytes) / ITERATIONS;
+
+        System.out.printf("[Benchmark] %-16s %,d rows/page  %.2f ms/page  %,d KB allocated/page%n",
+            label, PAGE_SIZE, millis, bytes / 1024);
+    }
+}
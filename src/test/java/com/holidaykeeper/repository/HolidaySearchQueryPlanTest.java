@@ -0,0 +1,216 @@
+package com.holidaykeeper.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.config.QuerydslConfig;
+import com.holidaykeeper.dto.HolidayCursor;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.entity.Holiday;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커서 검색(findHolidayDtosWithCursor / countHolidays)이 QueryDSL 로 실제 생성하는 SQL 이
+ * schema.sql 의 인덱스를 타는지 H2 EXPLAIN 실행계획으로 확인
+ * - DataSource 를 감싸 Hibernate 가 실행한 SQL 과 바인딩 값을 그대로 잡아서 EXPLAIN 에 다시 바인딩
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, HolidaySearchQueryPlanTest.CapturingDataSourceConfig.class})
+class HolidaySearchQueryPlanTest {
+
+    // (country_id, date …) 로 시작하는 인덱스 : 복합 검색 인덱스 또는 자연키 유니크 인덱스 중 H2 가 고른 것
+    private static final List<String> COUNTRY_INDEXES =
+        List.of("IDX_HOLIDAYS_COUNTRY_DATE_ID", "UQ_HOLIDAYS_NATURAL_KEY");
+    private static final List<String> DATE_INDEX = List.of("IDX_HOLIDAYS_DATE_ID");
+    private static final List<String> NAME_INDEX = List.of("IDX_HOLIDAYS_NAME_ID");
+    // 국가 + 타입 : (country_id, type_mask …) 인덱스, 또는 국가 인덱스로 좁힌 뒤 정렬 순서를 그대로 쓰는 쪽을 H2 가 고를 수 있음
+    private static final List<String> COUNTRY_TYPE_INDEXES =
+        List.of("IDX_HOLIDAYS_COUNTRY_TYPE_DATE_ID", "IDX_HOLIDAYS_COUNTRY_DATE_ID", "UQ_HOLIDAYS_NATURAL_KEY");
+
+    private static final UUID LAST_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+    private static final LocalDate YEAR_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2024, 12, 31);
+
+    private static final List<CapturedQuery> QUERIES = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayRepositoryCustom holidayRepositoryCustom;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List<Holiday> holidays = new ArrayList<>();
+        for (String code : List.of("KR", "US", "JP", "DE")) {
+            Country country = countryRepository.save(new Country(code, code));
+            for (int i = 0; i < 50; i++) {
+                holidays.add(new Holiday(YEAR_START.plusDays(i * 7L), "휴일 " + i, "Holiday " + i, country,
+                    false, true, null, null, List.of(i % 2 == 0 ? "Public" : "Bank")));
+            }
+        }
+        holidayRepository.saveAllAndFlush(holidays);
+        QUERIES.clear();
+    }
+
+    static Stream<Arguments> searchQueries() {
+        return Stream.of(
+            Arguments.of("country, sort by date", COUNTRY_INDEXES, search(r -> r.findHolidayDtosWithCursor(
+                null, null, 21, "date", "ASC", "KR", null, null, null, null, null))),
+            Arguments.of("country, sort by name", COUNTRY_INDEXES, search(r -> r.findHolidayDtosWithCursor(
+                null, null, 21, "name", "ASC", "KR", null, null, null, null, null))),
+            Arguments.of("country and date range, sort by date", COUNTRY_INDEXES, search(r -> r.findHolidayDtosWithCursor(
+                null, null, 21, "date", "ASC", "KR", YEAR_START, YEAR_END, null, null, null))),
+            Arguments.of("country and date cursor, sort by date", COUNTRY_INDEXES, search(r -> r.findHolidayDtosWithCursor(
+                new HolidayCursor("date", "ASC", "2024-05-05", LAST_ID), null, 21, "date", "ASC", "KR",
+                null, null, null, null, null))),
+            Arguments.of("country and type, sort by date", COUNTRY_TYPE_INDEXES, search(r -> r.findHolidayDtosWithCursor(
+                null, null, 21, "date", "ASC", "KR", null, null, "Bank", null, null))),
+            Arguments.of("country and name like, sort by name", COUNTRY_INDEXES, search(r -> r.findHolidayDtosWithCursor(
+                null, null, 21, "name", "ASC", "KR", null, null, null, "d", null))),
+            Arguments.of("name cursor, sort by name desc", NAME_INDEX, search(r -> r.findHolidayDtosWithCursor(
+                new HolidayCursor("name", "DESC", "Holiday 1", LAST_ID), null, 21, "name", "DESC", null,
+                null, null, null, null, null))),
+            Arguments.of("seek date, sort by date", DATE_INDEX, search(r -> r.findHolidayDtosWithCursor(
+                null, LocalDate.of(2024, 6, 1), 21, "date", "ASC", null, null, null, null, null, null))),
+            Arguments.of("date range, sort by date", DATE_INDEX, search(r -> r.findHolidayDtosWithCursor(
+                null, null, 21, "date", "ASC", null, LocalDate.of(2024, 12, 1), YEAR_END, null, null, null))),
+            Arguments.of("count by country, date range and type", COUNTRY_TYPE_INDEXES, search(r -> r.countHolidays(
+                "KR", YEAR_START, YEAR_END, "Public", null, null)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searchQueries")
+    void searchUsesExpectedIndex(String description, List<String> expectedIndexes,
+        Consumer<HolidayRepositoryCustom> search) {
+        search.accept(holidayRepositoryCustom);
+        assertThat(QUERIES).as(description).isNotEmpty();
+        CapturedQuery query = QUERIES.getLast();
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class,
+            query.parameters().toArray());
+
+        // H2 는 tbl_holidays 에 접근할 때 사용한 인덱스를 /* PUBLIC.<INDEX>: ... */ 로,
+        // 인덱스를 쓰지 못하면 /* PUBLIC.<TABLE>.tableScan */ 으로 표시
+        assertThat(plan)
+            .as("%s%n%s", description, plan)
+            .doesNotContain("TBL_HOLIDAYS.tableScan")
+            .doesNotContain("TBL_COUNTRIES.tableScan")
+            .containsAnyOf(expectedIndexes.toArray(String[]::new));
+    }
+
+    private static Consumer<HolidayRepositoryCustom> search(Consumer<HolidayRepositoryCustom> search) {
+        return search;
+    }
+
+    private record CapturedQuery(String sql, List<Object> parameters) {
+    }
+
+    /**
+     * Hibernate 가 실행하는 SELECT 문과 바인딩 값을 기록하는 DataSource 래퍼
+     */
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                        return new CapturingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static final class CapturingDataSource extends DelegatingDataSource {
+
+            CapturingDataSource(DataSource target) {
+                super(target);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return capture(obtainTargetDataSource().getConnection());
+            }
+        }
+
+        private static Connection capture(Connection connection) {
+            return proxy(Connection.class, (method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                    return capture(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capture(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, (method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                    parameters.put(index, method.getName().equals("setNull") ? null : args[1]);
+                }
+                if (method.getName().equals("executeQuery") && !sql.startsWith("EXPLAIN")) {
+                    QUERIES.add(new CapturedQuery(sql, new ArrayList<>(parameters.values())));
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, Handler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method, args)));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        private interface Handler {
+            Object handle(Method method, Object[] args) throws Throwable;
+        }
+    }
+}
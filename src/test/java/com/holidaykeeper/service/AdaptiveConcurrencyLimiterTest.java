@@ -0,0 +1,131 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * AIMD 동시성 리미터 동작 확인
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void throttledResponsesHalveLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 16, 0.5, Duration.ofSeconds(2));
+
+        for (int i = 0; i < 5; i++) {
+            limiter.limit(Mono.error(tooManyRequests())).onErrorResume(e -> Mono.empty()).block();
+        }
+
+        assertThat(limiter.currentLimit()).isEqualTo(1);
+        assertThat(limiter.throttled()).isEqualTo(5);
+        assertThat(limiter.requests()).isEqualTo(5);
+    }
+
+    @Test
+    void saturatedSuccessesIncreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 16, 0.5, Duration.ofSeconds(2));
+
+        limiter.limit(Mono.just("ok")).block();
+
+        assertThat(limiter.currentLimit()).isEqualTo(2);
+        assertThat(limiter.peakLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowResponsesDecreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 16, 0.5, Duration.ofMillis(1));
+
+        limiter.limit(Mono.delay(Duration.ofMillis(20))).block();
+
+        assertThat(limiter.currentLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void inFlightRequestsNeverExceedLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 3, 0.5, Duration.ofSeconds(2));
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        Long completed = Flux.range(0, 50)
+            .flatMap(i -> limiter.limit(Mono.fromCallable(() -> peak.accumulateAndGet(current.incrementAndGet(), Math::max))
+                .delayElement(Duration.ofMillis(5))
+                .doOnNext(value -> current.decrementAndGet())))
+            .count()
+            .block();
+
+        assertThat(completed).isEqualTo(50);
+        assertThat(peak.get()).isLessThanOrEqualTo(3);
+        assertThat(limiter.requests()).isEqualTo(50);
+    }
+
+    @Test
+    void cancelledWaiterReturnsGrantedPermit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, Duration.ofSeconds(2));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 500; i++) {
+                Disposable holder = limiter.limit(Mono.never()).subscribe();
+                Disposable waiter = limiter.limit(Mono.never()).subscribe();
+
+                // 대기 중인 요청에 허가가 넘어가는 순간과 그 요청의 취소를 겹치게 함
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> release = executor.submit(() -> {
+                    start.await();
+                    holder.dispose();
+                    return null;
+                });
+                Future<?> cancel = executor.submit(() -> {
+                    start.await();
+                    waiter.dispose();
+                    return null;
+                });
+                start.countDown();
+                release.get();
+                cancel.get();
+
+                // 허가가 모두 반환되었으면 한도 1 안에서 바로 실행됨
+                assertThat(limiter.limit(Mono.just(i)).block(Duration.ofSeconds(1))).isEqualTo(i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(limiter.currentLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void interruptedBlockingWaiterDoesNotKeepPermit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, Duration.ofSeconds(2));
+        Disposable holder = limiter.limit(Mono.never()).subscribe();
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.limitBlocking(() -> "never");
+            } catch (Exception e) {
+                // 인터럽트로 대기 취소
+            }
+        });
+        Thread.sleep(50);
+        waiter.interrupt();
+        waiter.join(1000);
+        holder.dispose();
+
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(limiter.limit(Mono.just("ok")).block(Duration.ofSeconds(1))).isEqualTo("ok");
+    }
+
+    private static WebClientResponseException tooManyRequests() {
+        return WebClientResponseException.create(429, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
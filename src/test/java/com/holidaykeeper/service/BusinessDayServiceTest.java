@@ -0,0 +1,90 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.holidaykeeper.exception.InvalidRequestException;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 영업일 계산이 적재한 연도 안에서만 이뤄지는지 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - 기동 시 작년·올해만 적재 (BA 는 1월 1일 공휴일, BB 는 공휴일 없음)
+ * - 공휴일이 없는 연도도 적재한 연도로 인정
+ * - 적재하지 않은 연도를 지나야 하면 주말만으로 추정하지 않고 400 으로 거절
+ */
+@SpringBootTest(properties = "holiday-keeper.warm-up.past-years=1")
+class BusinessDayServiceTest {
+
+    private static final int THIS_YEAR = LocalDate.now().getYear();
+
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(List.of("BA", "BB"),
+        BusinessDayServiceTest::handle);
+
+    @Autowired
+    private BusinessDayService businessDayService;
+
+    @Autowired
+    private HolidayCalendarIndex holidayCalendarIndex;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "business-day");
+    }
+
+    @Test
+    void rejectsCalculationsOutsideLoadedYears() throws Exception {
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+
+        // 1. 적재한 연도 범위 : 공휴일이 없는 국가도 동기화한 연도는 적재한 것으로 봄
+        CountryCalendar withHolidays = holidayCalendarIndex.getCalendar("BA");
+        CountryCalendar withoutHolidays = holidayCalendarIndex.getCalendar("BB");
+        assertThat(withHolidays.loadedYearRanges()).isEqualTo((THIS_YEAR - 1) + "-" + THIS_YEAR);
+        assertThat(withoutHolidays.loadedYearRanges()).isEqualTo((THIS_YEAR - 1) + "-" + THIS_YEAR);
+        assertThat(withoutHolidays.isLoaded(THIS_YEAR + 1)).isFalse();
+
+        // 2. 적재한 연도 안의 계산은 그대로 수행 (1월 1일은 공휴일)
+        LocalDate newYear = LocalDate.of(THIS_YEAR, 1, 1);
+        assertThat(businessDayService.businessDaysBetween("BA", newYear, newYear.plusDays(1))).isZero();
+        long weekdays = newYear.minusYears(1).datesUntil(newYear)
+            .filter(date -> date.getDayOfWeek().getValue() <= 5)
+            .count();
+        assertThat(businessDayService.businessDaysBetween("BB", newYear.minusYears(1), newYear)).isEqualTo(weekdays);
+
+        // 3. 적재하지 않은 연도를 지나야 하는 계산은 적재된 연도 범위와 함께 거절
+        assertThatThrownBy(() -> businessDayService.addBusinessDays("BA", LocalDate.of(THIS_YEAR, 12, 31), 1))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining(String.valueOf(THIS_YEAR + 1))
+            .hasMessageContaining((THIS_YEAR - 1) + "-" + THIS_YEAR);
+        assertThatThrownBy(() -> businessDayService.addBusinessDays("BB", newYear.minusYears(1), -1))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining(String.valueOf(THIS_YEAR - 2));
+        assertThatThrownBy(() -> businessDayService.addBusinessDays("BA", newYear, Integer.MIN_VALUE))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> businessDayService.businessDaysBetween("BA", newYear, newYear.plusYears(100)))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        String body = countryCode.equals("BA") ? UpstreamStubServer.newYearJson(year, countryCode) : "[]";
+        UpstreamStubServer.respond(exchange, 200, body);
+    }
+}
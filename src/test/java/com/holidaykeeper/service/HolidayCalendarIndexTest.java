@@ -0,0 +1,78 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.exception.CountryCodeNotFoundException;
+import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 달력 인덱스에 국가가 등록되는지 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - 기동 시 적재로 추가된 국가는 공휴일이 없어도 빈 달력으로 등록 (존재하는 국가는 404 가 아님)
+ * - 기동 완료 이후 DB 에 추가된 국가도 처음 조회할 때 등록
+ */
+@SpringBootTest(properties = "holiday-keeper.warm-up.past-years=0")
+class HolidayCalendarIndexTest {
+
+    private static final int THIS_YEAR = LocalDate.now().getYear();
+
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(List.of("IA", "IB"),
+        HolidayCalendarIndexTest::handle);
+
+    @Autowired
+    private HolidayCalendarIndex holidayCalendarIndex;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "calendar-index");
+    }
+
+    @Test
+    void registersCountriesWithoutHolidaysAndCountriesAddedAfterStartup() throws Exception {
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+
+        // 1. 기동 시 적재 : 공휴일이 있는 국가와 없는 국가 모두 등록
+        assertThat(holidayCalendarIndex.isHoliday("IA", LocalDate.of(THIS_YEAR, 1, 1))).isTrue();
+        assertThat(holidayCalendarIndex.isHoliday("IB", LocalDate.of(THIS_YEAR, 1, 1))).isFalse();
+        assertThat(holidayCalendarIndex.getAllCalendars()).extracting(CountryCalendar::getCountryCode)
+            .contains("IA", "IB");
+
+        // 2. 기동 완료 이후 추가된 국가 : 공휴일은 없지만 존재하는 국가
+        countryRepository.saveAndFlush(new Country("IC", "Country IC"));
+        assertThat(holidayCalendarIndex.isHoliday("IC", LocalDate.of(THIS_YEAR, 1, 1))).isFalse();
+        assertThat(holidayCalendarIndex.findCalendar("IC")).isPresent();
+
+        // 3. 없는 국가는 그대로 404
+        assertThatThrownBy(() -> holidayCalendarIndex.isHoliday("IZ", LocalDate.of(THIS_YEAR, 1, 1)))
+            .isInstanceOf(CountryCodeNotFoundException.class);
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        String body = countryCode.equals("IA") ? UpstreamStubServer.newYearJson(year, countryCode) : "[]";
+        UpstreamStubServer.respond(exchange, 200, body);
+    }
+}
@@ -0,0 +1,136 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.entity.HolidaySyncState;
+import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.repository.HolidayRepository;
+import com.holidaykeeper.repository.HolidaySyncStateRepository;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 외부 API 조건부 재호출 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - 기동 시 적재 : 200 + ETag 저장
+ * - 재호출 : If-None-Match 전송 → 304 이면 쓰기 없음
+ * - ETag 만 바뀌고 본문이 같으면 검증값만 갱신, 본문이 바뀌면 동기화
+ */
+@SpringBootTest
+class HolidayConditionalRefreshTest {
+
+    private static final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private static final AtomicInteger okResponses = new AtomicInteger();
+    private static volatile String upstreamEtag = "\"v1\"";
+    private static volatile boolean extraHoliday = false;
+
+    private static final UpstreamStubServer upstream =
+        UpstreamStubServer.start(List.of("KR"), HolidayConditionalRefreshTest::handle);
+
+    @Autowired
+    private HolidayKeeperService holidayKeeperService;
+
+    @Autowired
+    private HolidayDataVersions holidayDataVersions;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository holidaySyncStateRepository;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        // 다른 테스트 컨텍스트와 인메모리 DB 를 공유하지 않도록 분리
+        upstream.register(registry, "conditional-refresh");
+    }
+
+    @Test
+    void refreshSkipsUnchangedUpstreamData() throws InterruptedException {
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+        int year = LocalDate.now().getYear();
+        Country korea = countryRepository.findByCountryCode("KR").orElseThrow();
+
+        // 기동 시 적재 : ETag 와 본문 해시 저장
+        assertThat(holidaysOf(year)).isEqualTo(2);
+        assertThat(syncStateOf(korea, year).getUpstreamEtag()).isEqualTo("\"v1\"");
+        long version = holidayDataVersions.of("KR").version();
+
+        // 1. 변경 없음 : If-None-Match 로 304 → 쓰기 없음
+        int notModifiedBefore = notModifiedResponses.get();
+        holidayKeeperService.refreshHolidays("KR", year);
+        assertThat(notModifiedResponses.get()).isEqualTo(notModifiedBefore + 1);
+        assertThat(holidayDataVersions.of("KR").version()).isEqualTo(version);
+
+        // 2. ETag 만 바뀌고 본문은 동일 : 200 이지만 본문 해시가 같아 공휴일은 쓰지 않고 ETag 만 갱신
+        upstreamEtag = "\"v2\"";
+        int okBefore = okResponses.get();
+        holidayKeeperService.refreshHolidays("KR", year);
+        assertThat(okResponses.get()).isEqualTo(okBefore + 1);
+        assertThat(holidayDataVersions.of("KR").version()).isEqualTo(version);
+        assertThat(syncStateOf(korea, year).getUpstreamEtag()).isEqualTo("\"v2\"");
+
+        // 3. 본문 변경 : 동기화되어 데이터 버전 증가
+        upstreamEtag = "\"v3\"";
+        extraHoliday = true;
+        holidayKeeperService.refreshHolidays("KR", year);
+        assertThat(holidaysOf(year)).isEqualTo(3);
+        assertThat(holidayDataVersions.of("KR").version()).isGreaterThan(version);
+        assertThat(syncStateOf(korea, year).getUpstreamEtag()).isEqualTo("\"v3\"");
+    }
+
+    private long holidaysOf(int year) {
+        return holidayRepository.findHolidayDatesByCountryCode("KR").stream()
+            .filter(holiday -> holiday.date().getYear() == year)
+            .count();
+    }
+
+    private HolidaySyncState syncStateOf(Country country, int year) {
+        return holidaySyncStateRepository.findByCountry_IdAndHolidayYear(country.getId(), year).orElseThrow();
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        String etag = upstreamEtag;
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.incrementAndGet();
+            UpstreamStubServer.respond(exchange, 304, "");
+            return;
+        }
+        okResponses.incrementAndGet();
+        UpstreamStubServer.respond(exchange, 200, holidaysJson(year), Map.of("ETag", etag));
+    }
+
+    private static String holidaysJson(int year) {
+        List<String> holidays = new ArrayList<>(List.of(
+            UpstreamStubServer.holidayJson(year + "-01-01", "새해", "New Year's Day", "KR"),
+            UpstreamStubServer.holidayJson(year + "-03-01", "3·1절", "Independence Movement Day", "KR")));
+        if (extraHoliday) {
+            holidays.add(UpstreamStubServer.holidayJson(year + "-05-05", "어린이날", "Children's Day", "KR"));
+        }
+        return UpstreamStubServer.arrayJson(holidays);
+    }
+}
@@ -0,0 +1,121 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 이전 프로세스가 실행 중(STARTED)으로 남긴 수집 작업의 재시작 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - RB-2002 가 실패하여 작업 실패, 이미 커밋된 청크(RB-2000, 2001)와 완료된 RA 파티션은 유지
+ * - 작업 저장소의 실행 기록을 STARTED 로 되돌려 프로세스가 정리 없이 죽은 상태를 재현
+ *   (파일/외부 DB 에 남는 기록과 같은 상태, 인메모리 H2 에서는 프로세스와 함께 사라짐)
+ * - 같은 연도 범위로 다시 실행하면 남은 기록을 실패로 정리하고 같은 인스턴스를 마지막으로 커밋된 청크 다음부터 재시작
+ */
+@SpringBootTest(properties = {
+    "holiday-keeper.ingestion.write-batch-size=1",
+    "holiday-keeper.batch.skip-limit=0",
+    "holiday-keeper.ingestion.max-retries=0"
+})
+class HolidayIngestionJobAbandonedRestartTest {
+
+    private static final int START_YEAR = 2000;
+    private static final int END_YEAR = 2003;
+    private static final int FAILING_YEAR = 2002;
+
+    private static final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private static volatile boolean failing = false;
+
+    private static final UpstreamStubServer upstream =
+        UpstreamStubServer.start(List.of("RA", "RB"), HolidayIngestionJobAbandonedRestartTest::handle);
+
+    @Autowired
+    private HolidayIngestionJobLauncher holidayIngestionJobLauncher;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "ingestion-job-abandoned-restart");
+    }
+
+    @Test
+    void restartsExecutionLeftRunningByPreviousProcess() throws InterruptedException {
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+
+        // 1. RB-2002 실패 : 작업 실패, RB 는 2000·2001 까지 커밋
+        failing = true;
+        JobExecution failed = holidayIngestionJobLauncher.launch(START_YEAR, END_YEAR);
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+
+        // 2. 프로세스가 죽어 실행 종료를 기록하지 못한 상태로 되돌림
+        jdbcTemplate.update("update BATCH_STEP_EXECUTION set STATUS = 'STARTED', EXIT_CODE = 'EXECUTING', "
+            + "END_TIME = null where JOB_EXECUTION_ID = ? and STATUS = 'FAILED'", failed.getId());
+        jdbcTemplate.update("update BATCH_JOB_EXECUTION set STATUS = 'STARTED', EXIT_CODE = 'UNKNOWN', "
+            + "END_TIME = null where JOB_EXECUTION_ID = ?", failed.getId());
+        assertThat(jobExplorer.getJobExecution(failed.getId()).getStatus()).isEqualTo(BatchStatus.STARTED);
+
+        // 3. 같은 범위로 다시 실행 : 남은 기록은 실패로 정리, 같은 인스턴스를 커밋된 청크 다음부터 재시작
+        failing = false;
+        JobExecution restarted = holidayIngestionJobLauncher.launch(START_YEAR, END_YEAR);
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(restarted.getJobInstance().getInstanceId()).isEqualTo(failed.getJobInstance().getInstanceId());
+
+        JobExecution abandoned = jobExplorer.getJobExecution(failed.getId());
+        assertThat(abandoned.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(abandoned.getEndTime()).isNotNull();
+        assertThat(abandoned.getStepExecutions()).allSatisfy(step ->
+            assertThat(step.getStatus().isRunning()).isFalse());
+
+        for (int year = START_YEAR; year <= END_YEAR; year++) {
+            assertThat(requestsOf("RA", year)).isEqualTo(1);
+        }
+        assertThat(requestsOf("RB", 2000)).isEqualTo(1);
+        assertThat(requestsOf("RB", 2001)).isEqualTo(1);
+        assertThat(requestsOf("RB", FAILING_YEAR)).isEqualTo(2);
+        assertThat(requestsOf("RB", 2003)).isEqualTo(1);
+        assertThat(restarted.getExecutionContext().getInt(HolidayIngestionJobListener.SUCCEEDED)).isEqualTo(8);
+    }
+
+    private static int requestsOf(String countryCode, int year) {
+        AtomicInteger count = requests.get(countryCode + "-" + year);
+        return count == null ? 0 : count.get();
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        requests.computeIfAbsent(countryCode + "-" + year, key -> new AtomicInteger()).incrementAndGet();
+        if (failing && countryCode.equals("RB") && year == FAILING_YEAR) {
+            UpstreamStubServer.respond(exchange, 500, "");
+            return;
+        }
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.newYearJson(year, countryCode));
+    }
+}
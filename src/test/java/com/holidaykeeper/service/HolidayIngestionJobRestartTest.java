@@ -0,0 +1,113 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 수집 작업 재시작 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용)
+ * - BB-2002 가 실패하면 (건너뛰기 허용 0) 작업 실패, 이미 커밋된 청크는 유지
+ * - 같은 연도 범위로 다시 실행하면 같은 작업 인스턴스를 재시작 : 완료된 AA 파티션과 BB 의 커밋된 연도는 다시 요청하지 않음
+ *   (진행률에는 처리된 것으로 포함)
+ */
+@SpringBootTest(properties = {
+    "holiday-keeper.ingestion.write-batch-size=1",
+    "holiday-keeper.batch.skip-limit=0",
+    "holiday-keeper.ingestion.max-retries=0"
+})
+class HolidayIngestionJobRestartTest {
+
+    private static final int START_YEAR = 2000;
+    private static final int END_YEAR = 2003;
+    private static final int FAILING_YEAR = 2002;
+
+    private static final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private static volatile boolean failing = false;
+
+    private static final UpstreamStubServer upstream =
+        UpstreamStubServer.start(List.of("AA", "BB"), HolidayIngestionJobRestartTest::handle);
+
+    @Autowired
+    private HolidayIngestionJobLauncher holidayIngestionJobLauncher;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "ingestion-job-restart");
+    }
+
+    @Test
+    void restartsFromLastCommittedChunk() throws InterruptedException {
+        // 기동 시 적재(국가 목록 포함)가 끝난 뒤 시작 : 이후 마지막 작업 인스턴스는 이 테스트의 실행
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+
+        // 1. BB-2002 실패 : 작업 실패
+        failing = true;
+        JobExecution failed = holidayIngestionJobLauncher.launch(START_YEAR, END_YEAR);
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(requestsOf("BB", 2000)).isEqualTo(1);
+        assertThat(requestsOf("BB", 2003)).isZero();
+
+        // 2. 같은 범위로 다시 실행 : 같은 인스턴스 재시작, 실패한 지점부터만 요청
+        failing = false;
+        JobExecution restarted = holidayIngestionJobLauncher.launch(START_YEAR, END_YEAR);
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(restarted.getJobInstance().getInstanceId()).isEqualTo(failed.getJobInstance().getInstanceId());
+
+        for (int year = START_YEAR; year <= END_YEAR; year++) {
+            assertThat(requestsOf("AA", year)).isEqualTo(1);
+        }
+        assertThat(requestsOf("BB", 2000)).isEqualTo(1);
+        assertThat(requestsOf("BB", 2001)).isEqualTo(1);
+        assertThat(requestsOf("BB", FAILING_YEAR)).isEqualTo(2);
+        assertThat(requestsOf("BB", 2003)).isEqualTo(1);
+
+        // 다시 실행하지 않은 AA 파티션과 BB 의 커밋된 연도도 처리된 것으로 집계
+        assertThat(restarted.getExecutionContext().getInt(HolidayIngestionJobListener.SUCCEEDED)).isEqualTo(8);
+
+        // 재시작된 파티션의 처리량이 작업 저장소에 기록됨
+        StepExecution partition = restarted.getStepExecutions().stream()
+            .filter(step -> step.getStepName().endsWith("country-BB"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(partition.getReadCount()).isEqualTo(2);
+        assertThat(partition.getExecutionContext().containsKey(HolidayPartitionListener.ITEMS_PER_SECOND)).isTrue();
+    }
+
+    private static int requestsOf(String countryCode, int year) {
+        AtomicInteger count = requests.get(countryCode + "-" + year);
+        return count == null ? 0 : count.get();
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        requests.computeIfAbsent(countryCode + "-" + year, key -> new AtomicInteger()).incrementAndGet();
+        if (failing && countryCode.equals("BB") && year == FAILING_YEAR) {
+            UpstreamStubServer.respond(exchange, 500, "");
+            return;
+        }
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.newYearJson(year, countryCode));
+    }
+}
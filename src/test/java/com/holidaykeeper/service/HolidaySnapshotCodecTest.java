@@ -0,0 +1,65 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.holidaykeeper.dto.HolidaySnapshot;
+import com.holidaykeeper.dto.HolidaySnapshot.CountrySection;
+import com.holidaykeeper.dto.HolidaySnapshot.SyncState;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 공휴일 스냅샷 바이너리 형식 확인
+ */
+class HolidaySnapshotCodecTest {
+
+    private static final HolidaySnapshot SNAPSHOT = new HolidaySnapshot(1_767_225_600_000L, List.of(
+        new CountrySection("DE", "Germany", List.of(
+            holiday("2026-01-01", "Neujahr", "New Year's Day", "DE", null, null, List.of("Public")),
+            holiday("2026-01-06", "Heilige Drei Könige", "Epiphany", "DE", List.of("DE-BW", "DE-BY"), null,
+                List.of("Public")),
+            holiday("2027-01-01", "Neujahr", "New Year's Day", "DE", null, null, List.of("Public"))),
+            List.of(new SyncState(2026, "hash-2026", "\"v1\"", null, "payload-2026"),
+                new SyncState(2027, "hash-2027", null, "Wed, 01 Jan 2025 00:00:00 GMT", null))),
+        new CountrySection("KR", "South Korea", List.of(
+            holiday("2026-03-01", "3·1절", "Independence Movement Day", "KR", null, 1919,
+                List.of("Public", "Observance"))),
+            List.of(new SyncState(2026, "hash-kr", "\"kr\"", null, null)))
+    ));
+
+    @Test
+    void roundTrip() throws IOException {
+        byte[] bytes = encode(SNAPSHOT);
+
+        assertThat(HolidaySnapshotCodec.decode(ByteBuffer.wrap(bytes))).isEqualTo(SNAPSHOT);
+        assertThat(SNAPSHOT.completeYears()).containsExactly(2026);
+    }
+
+    @Test
+    void rejectsCorruptedSnapshot() throws IOException {
+        byte[] bytes = encode(SNAPSHOT);
+        bytes[bytes.length / 2] ^= 0x01;
+
+        assertThatThrownBy(() -> HolidaySnapshotCodec.decode(ByteBuffer.wrap(bytes)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("체크섬");
+    }
+
+    private static byte[] encode(HolidaySnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HolidaySnapshotCodec.encode(snapshot, out);
+        return out.toByteArray();
+    }
+
+    private static HolidaySaveRequest holiday(String date, String localName, String name, String countryCode,
+        List<String> counties, Integer launchYear, List<String> types) {
+        return new HolidaySaveRequest(LocalDate.parse(date), localName, name, countryCode, false,
+            counties == null, counties, launchYear, types);
+    }
+}
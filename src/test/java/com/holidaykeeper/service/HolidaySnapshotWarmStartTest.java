@@ -0,0 +1,114 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.dto.HolidaySnapshot;
+import com.holidaykeeper.dto.HolidaySnapshot.CountrySection;
+import com.holidaykeeper.dto.HolidaySnapshot.SyncState;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.repository.HolidaySyncStateRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 스냅샷으로 기동하는지 확인 (외부 API 에 연결할 수 없는 환경)
+ * - 외부 API 호출 전에 스냅샷의 국가·공휴일·동기화 상태를 복원하고 바로 준비 상태
+ * - 외부 API 적재는 실패하지만 스냅샷이 올해까지 담고 있으므로 부분 데이터가 아님
+ * - 복원한 DB 로 다시 기록한 스냅샷은 원본과 같은 내용
+ */
+@SpringBootTest(properties = {
+    "holiday-keeper.snapshot.enabled=true",
+    "holiday-keeper.warm-up.past-years=0"
+})
+class HolidaySnapshotWarmStartTest {
+
+    private static final int THIS_YEAR = LocalDate.now().getYear();
+
+    @TempDir
+    static Path snapshotDir;
+
+    private static HolidaySnapshot snapshot;
+
+    @Autowired
+    private HolidaySnapshotService holidaySnapshotService;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @Autowired
+    private HolidayCalendarIndex holidayCalendarIndex;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository holidaySyncStateRepository;
+
+    @BeforeAll
+    static void writeSnapshot() throws IOException {
+        snapshot = new HolidaySnapshot(System.currentTimeMillis(), List.of(
+            new CountrySection("AA", "Country A", List.of(
+                holiday(THIS_YEAR + "-01-01", "AA"),
+                holiday(THIS_YEAR + "-12-25", "AA")),
+                List.of(new SyncState(THIS_YEAR, "hash-aa", "\"aa\"", null, "payload-aa"))),
+            new CountrySection("BB", "Country B", List.of(
+                holiday(THIS_YEAR + "-01-01", "BB")),
+                List.of(new SyncState(THIS_YEAR, "hash-bb", "\"bb\"", null, "payload-bb")))
+        ));
+        try (OutputStream out = Files.newOutputStream(snapshotDir.resolve("holiday-snapshot.bin"))) {
+            HolidaySnapshotCodec.encode(snapshot, out);
+        }
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("holiday-keeper.snapshot.path", () -> snapshotDir.resolve("holiday-snapshot.bin").toString());
+        // 연결할 수 없는 외부 API (폐쇄망)
+        registry.add("holiday-keeper.upstream.base-url", () -> "http://localhost:1/api/v3");
+        registry.add("spring.datasource.url",
+            () -> "jdbc:h2:mem:snapshot-warm-start;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    }
+
+    @Test
+    void warmStartsFromSnapshotWithoutUpstream() throws Exception {
+        // 1. 스냅샷 복원 : 외부 API 없이 조회 가능, 다음 조건부 요청용 ETag 유지
+        assertThat(holidayWarmUpState.ready()).isTrue();
+        assertThat(holidayCalendarIndex.isHoliday("AA", LocalDate.of(THIS_YEAR, 12, 25))).isTrue();
+        assertThat(holidayCalendarIndex.isHoliday("BB", LocalDate.of(THIS_YEAR, 12, 25))).isFalse();
+        Country countryA = countryRepository.findByCountryCode("AA").orElseThrow();
+        assertThat(holidaySyncStateRepository.findByCountry_IdAndHolidayYear(countryA.getId(), THIS_YEAR)
+            .orElseThrow().getUpstreamEtag()).isEqualTo("\"aa\"");
+
+        // 2. 외부 API 적재 실패 : 준비 상태 유지, 스냅샷이 올해까지 담고 있어 부분 데이터 아님
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+        assertThat(holidayWarmUpState.phase()).isEqualTo(HolidayWarmUpState.Phase.FAILED);
+        assertThat(holidayWarmUpState.ready()).isTrue();
+        assertThat(holidayWarmUpState.complete()).isTrue();
+
+        // 3. 복원한 DB 로 다시 기록 : 같은 내용
+        assertThat(holidaySnapshotService.write()).isTrue();
+        Path path = snapshotDir.resolve("holiday-snapshot.bin");
+        HolidaySnapshot rewritten = HolidaySnapshotCodec.decode(ByteBuffer.wrap(Files.readAllBytes(path)));
+        assertThat(rewritten.countries()).isEqualTo(snapshot.countries());
+    }
+
+    private static HolidaySaveRequest holiday(String date, String countryCode) {
+        return new HolidaySaveRequest(LocalDate.parse(date), "휴일 " + date, "Holiday " + date, countryCode, true,
+            true, null, null, List.of("Public"));
+    }
+}
@@ -0,0 +1,237 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.holidaykeeper.config.HolidayIngestionProperties;
+import com.holidaykeeper.dto.HolidaySyncCommand;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.dto.request.HolidaySaveRequest;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.repository.HolidayRepository;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 수집 엔진 저장 단계 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용, 두 엔진 모두)
+ * - writeBatchSize 개씩 묶어 트랜잭션 하나로 저장
+ * - 묶음이 다 차지 않아도 writeFlushInterval 이 지나면 저장
+ * - 저장이 느리면 writeQueueBatches 로 대기 수를 제한하여 수집 단계가 멈춤
+ * - 묶음 트랜잭션이 실패하면 건별로 다시 저장하여 실패한 요청만 건너뜀
+ * - 가상 스레드 엔진의 writer 가 예외로 멈추면 대기 중인 수집 스레드까지 실패로 기록하고 실행은 예외로 끝남
+ */
+@SpringBootTest
+class HolidayWriteStageTest {
+
+    private static final int SLOW_YEAR = 1923;
+    private static final long SLOW_RESPONSE_MILLIS = 600;
+
+    // 느린 응답이 다른 요청을 막지 않도록 여러 스레드로 응답
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(List.of("WA", "WB"),
+        HolidayWriteStageTest::handle, Executors.newFixedThreadPool(8));
+
+    @Autowired
+    private HolidayUpstreamClient holidayUpstreamClient;
+
+    @Autowired
+    private HolidaySyncStages holidaySyncStages;
+
+    @Autowired
+    private HolidayDataService holidayDataService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "write-stage");
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // 기동 시 적재의 저장이 집계에 섞이지 않도록 끝날 때까지 대기
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"reactor", "virtual-threads"})
+    void coalescesWritesBySize(String engineName) {
+        // 7개를 3개씩 : 3 + 3 + 1 (주기는 길게 두어 크기로만 묶음)
+        HolidayIngestionProperties properties = properties(3, Duration.ofSeconds(10), 2);
+
+        IngestionReport report = ingest(engineName, properties, holidaySyncStages, years(1931, 7));
+
+        assertThat(report.succeeded()).isEqualTo(7);
+        assertThat(report.writeBatches()).isEqualTo(3);
+        assertThat(report.queueDepth()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"reactor", "virtual-threads"})
+    void flushesPartialBatchAfterInterval(String engineName) {
+        // 빠른 두 연도는 주기(100ms)가 지나 먼저 저장, 느린 연도(600ms)는 따로 저장
+        HolidayIngestionProperties properties = properties(50, Duration.ofMillis(100), 2);
+
+        IngestionReport report = ingest(engineName, properties, holidaySyncStages,
+            List.of(1921, 1922, SLOW_YEAR));
+
+        assertThat(report.succeeded()).isEqualTo(3);
+        assertThat(report.writeBatches()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"reactor", "virtual-threads"})
+    void boundsQueueWhenWritesAreSlow(String engineName) {
+        // 저장 한 번에 30ms, 외부 API 는 즉시 응답 : 대기 제한이 없으면 대기 수가 작업 수에 가까워짐
+        HolidayIngestionProperties properties = properties(1, Duration.ofMillis(50), 1);
+        HolidaySyncStages slowStages = new HolidaySyncStages(holidayDataService, holidayUpstreamClient) {
+            @Override
+            public void write(List<HolidaySyncCommand> batch, IngestionRun run) {
+                sleep(30);
+                super.write(batch, run);
+            }
+        };
+
+        IngestionReport report = ingest(engineName, properties, slowStages, years(1941, 30));
+
+        assertThat(report.succeeded()).isEqualTo(30);
+        assertThat(report.writeBatches()).isEqualTo(30);
+        // 저장 대기 묶음(writeQueueBatches) + 저장 중인 묶음 + 버퍼에 모으는 묶음 + 응답을 받은 동시 요청
+        long bound = properties.writeBatchSize() * (properties.writeQueueBatches() + 2L)
+            + 2L * properties.maxConcurrency();
+        assertThat(report.peakQueueDepth()).isLessThanOrEqualTo(bound);
+    }
+
+    @Test
+    void failsRunWhenVirtualThreadWriterDies() {
+        // 대기 자리 1개 : 나머지 수집 스레드는 writer 가 멈출 때 put 에서 대기 중
+        HolidayIngestionProperties properties = properties(1, Duration.ofMillis(50), 1);
+        HolidaySyncStages failingStages = new HolidaySyncStages(holidayDataService, holidayUpstreamClient) {
+            @Override
+            public void write(List<HolidaySyncCommand> batch, IngestionRun run) {
+                throw new IllegalStateException("writer crashed");
+            }
+        };
+        VirtualThreadIngestionEngine engine =
+            new VirtualThreadIngestionEngine(holidayUpstreamClient, failingStages, properties);
+        List<Integer> years = years(1951, 10);
+        IngestionRun run = new IngestionRun(properties, years.size());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+            assertThatThrownBy(() -> engine.ingest(List.of(country("WA")), years, Map.of(), run))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("writer crashed"));
+        run.finish();
+
+        IngestionReport report = run.report();
+        assertThat(report.succeeded()).isZero();
+        assertThat(report.failed()).isEqualTo(years.size());
+    }
+
+    @Test
+    void fallsBackToPerCommandWritesWhenBatchTransactionFails() {
+        Country wa = country("WA");
+        Country wb = country("WB");
+        IngestionRun run = new IngestionRun(properties(50, Duration.ofMillis(100), 2), 3);
+
+        // name 컬럼(VARCHAR(100))보다 긴 이름 : 묶음 트랜잭션 전체가 롤백됨
+        holidaySyncStages.write(List.of(
+            command(wa, 1911, "New Year's Day"),
+            command(wb, 1911, "N".repeat(101)),
+            command(wa, 1912, "New Year's Day")), run);
+        run.finish();
+
+        IngestionReport report = run.report();
+        assertThat(report.succeeded()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.writeBatches()).isEqualTo(1);
+        assertThat(report.failures()).singleElement().satisfies(note -> {
+            assertThat(note.countryCode()).isEqualTo("WB");
+            assertThat(note.year()).isEqualTo(1911);
+        });
+        assertThat(holidaysOf("WA", 1911)).isEqualTo(1);
+        assertThat(holidaysOf("WA", 1912)).isEqualTo(1);
+        assertThat(holidaysOf("WB", 1911)).isZero();
+    }
+
+    private IngestionReport ingest(String engineName, HolidayIngestionProperties properties,
+        HolidaySyncStages stages, List<Integer> years) {
+        IngestionEngine engine = engineName.equals("reactor")
+            ? new ReactorIngestionEngine(holidayUpstreamClient, stages, properties)
+            : new VirtualThreadIngestionEngine(holidayUpstreamClient, stages, properties);
+        IngestionRun run = new IngestionRun(properties, years.size());
+        engine.ingest(List.of(country("WA")), years, Map.of(), run);
+        run.finish();
+        return run.report();
+    }
+
+    private Country country(String countryCode) {
+        return countryRepository.findByCountryCode(countryCode).orElseThrow();
+    }
+
+    private long holidaysOf(String countryCode, int year) {
+        return holidayRepository.findHolidayDatesByCountryCode(countryCode).stream()
+            .filter(holiday -> holiday.date().getYear() == year)
+            .count();
+    }
+
+    private static HolidaySyncCommand command(Country country, int year, String name) {
+        HolidaySaveRequest holiday = new HolidaySaveRequest(LocalDate.of(year, 1, 1), "새해", name,
+            country.getCountryCode(), true, true, null, null, List.of("Public"));
+        return new HolidaySyncCommand(country, year, List.of(holiday), null);
+    }
+
+    private static List<Integer> years(int startYear, int count) {
+        return IntStream.range(startYear, startYear + count).boxed().toList();
+    }
+
+    private static HolidayIngestionProperties properties(int writeBatchSize, Duration writeFlushInterval,
+        int writeQueueBatches) {
+        return new HolidayIngestionProperties(4, 1, 4, Duration.ofSeconds(5), 0.5, 0, Duration.ofMillis(10),
+            Duration.ofMillis(100), 0.0, 0, writeBatchSize, writeFlushInterval, writeQueueBatches);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        if (year == SLOW_YEAR) {
+            sleep(SLOW_RESPONSE_MILLIS);
+        }
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.newYearJson(year, countryCode));
+    }
+}
@@ -0,0 +1,122 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.config.HolidayIngestionProperties;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Reactor 엔진과 가상 스레드 엔진의 수집 처리량 비교 (고정 지연을 주는 로컬 스텁 서버 사용)
+ * - 엔진마다 겹치지 않는 연도 범위를 수집하여 본문 해시 비교로 쓰기가 생략되지 않도록 함
+ * - 실행 : ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class IngestionEngineBenchmarkTest {
+
+    private static final int COUNTRIES = 20;
+    private static final int YEARS = 10;
+    private static final long UPSTREAM_LATENCY_MILLIS = 20;
+
+    private static final UpstreamStubServer upstream = UpstreamStubServer.start(
+        IntStream.range(0, COUNTRIES).mapToObj(i -> "Z" + (char) ('A' + i)).toList(),
+        IngestionEngineBenchmarkTest::handle, Executors.newFixedThreadPool(64));
+
+    @Autowired
+    private HolidayUpstreamClient holidayUpstreamClient;
+
+    @Autowired
+    private HolidaySyncStages holidaySyncStages;
+
+    @Autowired
+    private HolidayIngestionProperties ingestionProperties;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "ingestion-benchmark");
+    }
+
+    @Test
+    void compareEngines() throws InterruptedException {
+        // 기동 시 적재가 스텁 서버를 함께 사용하지 않도록 끝날 때까지 대기
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(60))).isTrue();
+        List<Country> countries = countryRepository.findAll();
+        assertThat(countries).hasSize(COUNTRIES);
+
+        // JIT·커넥션 풀 예열 (측정 대상과 겹치지 않는 연도)
+        run(new ReactorIngestionEngine(holidayUpstreamClient, holidaySyncStages, ingestionProperties),
+            countries, 1800);
+        run(new VirtualThreadIngestionEngine(holidayUpstreamClient, holidaySyncStages, ingestionProperties),
+            countries, 1850);
+
+        IngestionReport reactor = run(
+            new ReactorIngestionEngine(holidayUpstreamClient, holidaySyncStages, ingestionProperties),
+            countries, 1900);
+        IngestionReport virtualThreads = run(
+            new VirtualThreadIngestionEngine(holidayUpstreamClient, holidaySyncStages, ingestionProperties),
+            countries, 1950);
+
+        assertThat(reactor.failed()).isZero();
+        assertThat(virtualThreads.failed()).isZero();
+        assertThat(virtualThreads.saved()).isEqualTo(reactor.saved());
+    }
+
+    private IngestionReport run(IngestionEngine engine, List<Country> countries, int startYear) {
+        List<Integer> years = IntStream.range(startYear, startYear + YEARS).boxed().toList();
+        IngestionRun run = new IngestionRun(ingestionProperties, countries.size() * years.size());
+
+        long start = System.nanoTime();
+        engine.ingest(countries, years, Map.of(), run);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        run.finish();
+
+        IngestionReport report = run.report();
+        System.out.printf("%-16s %5d ms, %7.1f tasks/s, peak concurrency %d, write batches %d (%d ms), "
+                + "peak queue depth %d%n",
+            engine.name(), elapsedMillis, report.tasksPerSecond(), report.peakConcurrency(),
+            report.writeBatches(), report.writeMillis(), report.peakQueueDepth());
+        return report;
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        // 외부 API 응답 지연 흉내
+        try {
+            Thread.sleep(UPSTREAM_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<String> holidays = IntStream.rangeClosed(1, 12)
+            .mapToObj(month -> UpstreamStubServer.holidayJson(year + "-" + String.format("%02d", month) + "-01",
+                "휴일 " + month, "Holiday " + month, countryCode))
+            .toList();
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.arrayJson(holidays));
+    }
+}
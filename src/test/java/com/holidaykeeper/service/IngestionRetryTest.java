@@ -0,0 +1,169 @@
+package com.holidaykeeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.config.HolidayIngestionProperties;
+import com.holidaykeeper.dto.IngestionReport;
+import com.holidaykeeper.dto.IngestionReport.TaskNote;
+import com.holidaykeeper.entity.Country;
+import com.holidaykeeper.repository.CountryRepository;
+import com.holidaykeeper.support.UpstreamStubServer;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * IngestionRun 의 재시도 확인 (JDK HttpServer 로 만든 로컬 스텁 서버 사용, 두 엔진 모두)
+ * - RA-1901 : 첫 요청은 429 + Retry-After: 1 → 지수 백오프(수 ms) 대신 1초 뒤 재시도하여 성공
+ * - RB-1902 : 항상 503 → 재시도 후에도 실패하면 건너뛰고 IngestionReport.failures 에 기록
+ * - 재시도 예산이 없으면 재시도하지 않고 retryBudgetExhausted 로 표시
+ */
+@SpringBootTest
+class IngestionRetryTest {
+
+    private static final int THROTTLED_YEAR = 1901;
+    private static final int FAILING_YEAR = 1902;
+
+    private static final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    private static final UpstreamStubServer upstream =
+        UpstreamStubServer.start(List.of("RA", "RB"), IngestionRetryTest::handle);
+
+    @Autowired
+    private HolidayUpstreamClient holidayUpstreamClient;
+
+    @Autowired
+    private HolidaySyncStages holidaySyncStages;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayWarmUpState holidayWarmUpState;
+
+    @AfterAll
+    static void stopServer() {
+        upstream.stop();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        upstream.register(registry, "ingestion-retry");
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // 기동 시 적재가 스텁 서버 요청 수에 섞이지 않도록 끝날 때까지 대기
+        assertThat(holidayWarmUpState.awaitFinished(Duration.ofSeconds(30))).isTrue();
+        requests.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"reactor", "virtual-threads"})
+    void retriesThrottledRequestAfterRetryAfterAndReportsSkippedTask(String engineName) {
+        // 백오프는 수 ms 이므로 1초 넘게 기다렸다면 Retry-After 를 따른 것
+        HolidayIngestionProperties properties = properties(Duration.ofMillis(10), 2, 0.0, 10);
+
+        long start = System.nanoTime();
+        IngestionReport report = ingest(engineName, properties, country("RA"), THROTTLED_YEAR);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(requestsOf("RA", THROTTLED_YEAR)).isEqualTo(2);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(1000);
+        assertThat(report.succeeded()).isEqualTo(1);
+        assertThat(report.retries()).isEqualTo(1);
+        assertThat(report.throttled()).isGreaterThanOrEqualTo(1);
+        assertThat(report.retryBudgetExhausted()).isFalse();
+        assertThat(report.retried()).singleElement()
+            .satisfies(note -> assertNote(note, "RA", THROTTLED_YEAR, 2, "429"));
+
+        // 항상 503 : 최대 재시도(2회) 후 건너뜀
+        report = ingest(engineName, properties, country("RB"), FAILING_YEAR);
+
+        assertThat(requestsOf("RB", FAILING_YEAR)).isEqualTo(3);
+        assertThat(report.succeeded()).isZero();
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.retries()).isEqualTo(2);
+        assertThat(report.retried()).isEmpty();
+        assertThat(report.failures()).singleElement()
+            .satisfies(note -> assertNote(note, "RB", FAILING_YEAR, 3, "503"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"reactor", "virtual-threads"})
+    void stopsRetryingWhenRetryBudgetIsExhausted(String engineName) {
+        // 최소 예산 0, 비율 0 : 재시도 허용 수 0
+        HolidayIngestionProperties properties = properties(Duration.ofMillis(10), 5, 0.0, 0);
+
+        IngestionReport report = ingest(engineName, properties, country("RB"), FAILING_YEAR);
+
+        assertThat(requestsOf("RB", FAILING_YEAR)).isEqualTo(1);
+        assertThat(report.retries()).isZero();
+        assertThat(report.retryBudgetExhausted()).isTrue();
+        assertThat(report.failures()).singleElement()
+            .satisfies(note -> assertNote(note, "RB", FAILING_YEAR, 1, "503"));
+    }
+
+    private IngestionReport ingest(String engineName, HolidayIngestionProperties properties, Country country,
+        int year) {
+        IngestionRun run = new IngestionRun(properties, 1);
+        engine(engineName, properties).ingest(List.of(country), List.of(year), Map.of(), run);
+        run.finish();
+        return run.report();
+    }
+
+    private IngestionEngine engine(String engineName, HolidayIngestionProperties properties) {
+        if (engineName.equals("reactor")) {
+            return new ReactorIngestionEngine(holidayUpstreamClient, holidaySyncStages, properties);
+        }
+        return new VirtualThreadIngestionEngine(holidayUpstreamClient, holidaySyncStages, properties);
+    }
+
+    private Country country(String countryCode) {
+        return countryRepository.findByCountryCode(countryCode).orElseThrow();
+    }
+
+    private static HolidayIngestionProperties properties(Duration initialBackoff, int maxRetries,
+        double retryBudgetRatio, int minRetryBudget) {
+        return new HolidayIngestionProperties(4, 1, 8, Duration.ofSeconds(5), 0.5, maxRetries, initialBackoff,
+            Duration.ofSeconds(5), retryBudgetRatio, minRetryBudget, 50, Duration.ofMillis(50), 2);
+    }
+
+    private static void assertNote(TaskNote note, String countryCode, int year, int attempts, String status) {
+        assertThat(note.countryCode()).isEqualTo(countryCode);
+        assertThat(note.year()).isEqualTo(year);
+        assertThat(note.attempts()).isEqualTo(attempts);
+        assertThat(note.reason()).startsWith(status);
+    }
+
+    private static int requestsOf(String countryCode, int year) {
+        AtomicInteger count = requests.get(countryCode + "-" + year);
+        return count == null ? 0 : count.get();
+    }
+
+    private static void handle(HttpExchange exchange, int year, String countryCode) throws IOException {
+        int attempt = requests.computeIfAbsent(countryCode + "-" + year, key -> new AtomicInteger())
+            .incrementAndGet();
+        if (year == THROTTLED_YEAR && attempt == 1) {
+            UpstreamStubServer.respond(exchange, 429, "", Map.of("Retry-After", "1"));
+            return;
+        }
+        if (year == FAILING_YEAR) {
+            UpstreamStubServer.respond(exchange, 503, "");
+            return;
+        }
+        UpstreamStubServer.respond(exchange, 200, UpstreamStubServer.newYearJson(year, countryCode));
+    }
+}
@@ -0,0 +1,140 @@
+package com.holidaykeeper.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * 외부 공휴일 API(Nager.Date) 를 흉내 내는 JDK HttpServer 스텁 (테스트 공통)
+ * - /AvailableCountries 는 생성 시 받은 국가 목록으로 응답
+ * - /PublicHolidays/{year}/{countryCode} 는 테스트가 넘긴 핸들러로 응답
+ * - 테스트 클래스의 static 필드로 만들어 컨텍스트 기동 전에 포트가 정해지도록 사용
+ */
+public final class UpstreamStubServer {
+
+    private static final Pattern HOLIDAYS_PATH = Pattern.compile("/api/v3/PublicHolidays/(\\d{4})/([A-Z]{2})");
+
+    private final HttpServer server;
+    private final Executor executor;
+
+    private UpstreamStubServer(HttpServer server, Executor executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * 공휴일 요청 하나에 응답하는 핸들러
+     */
+    @FunctionalInterface
+    public interface HolidaysHandler {
+
+        void handle(HttpExchange exchange, int year, String countryCode) throws IOException;
+    }
+
+    public static UpstreamStubServer start(List<String> countryCodes, HolidaysHandler holidays) {
+        return start(countryCodes, holidays, null);
+    }
+
+    /**
+     * 스텁 서버 시작
+     * @param countryCodes /AvailableCountries 로 응답할 국가 코드
+     * @param holidays 공휴일 요청 핸들러
+     * @param executor 요청 처리 스레드 (null 이면 HttpServer 기본 단일 스레드)
+     * @return 시작된 스텁 서버
+     */
+    public static UpstreamStubServer start(List<String> countryCodes, HolidaysHandler holidays, Executor executor) {
+        String countries = countryCodes.stream()
+            .map(code -> "{\"countryCode\":\"" + code + "\",\"name\":\"Country " + code + "\"}")
+            .collect(Collectors.joining(",", "[", "]"));
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(executor);
+            server.createContext("/api/v3", exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                if (path.equals("/api/v3/AvailableCountries")) {
+                    respond(exchange, 200, countries);
+                    return;
+                }
+                Matcher matcher = HOLIDAYS_PATH.matcher(path);
+                if (!matcher.matches()) {
+                    respond(exchange, 404, "");
+                    return;
+                }
+                holidays.handle(exchange, Integer.parseInt(matcher.group(1)), matcher.group(2));
+            });
+            server.start();
+            return new UpstreamStubServer(server, executor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 외부 API 주소를 이 스텁으로, DB 를 테스트 전용 인메모리 DB 로 지정
+     * @param registry 동적 속성
+     * @param database 다른 테스트 컨텍스트와 겹치지 않는 인메모리 DB 이름
+     */
+    public void register(DynamicPropertyRegistry registry, String database) {
+        registry.add("holiday-keeper.upstream.base-url", this::baseUrl);
+        registry.add("spring.datasource.url",
+            () -> "jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/v3";
+    }
+
+    public void stop() {
+        server.stop(0);
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 공휴일 한 건의 JSON (외부 API 응답 형식)
+     */
+    public static String holidayJson(String date, String localName, String name, String countryCode) {
+        return "{\"date\":\"" + date + "\",\"localName\":\"" + localName + "\",\"name\":\"" + name + "\","
+            + "\"countryCode\":\"" + countryCode + "\",\"fixed\":true,\"global\":true,\"counties\":null,"
+            + "\"launchYear\":null,\"types\":[\"Public\"]}";
+    }
+
+    /**
+     * 해당 연도 1월 1일 공휴일 하나만 담은 응답 본문
+     */
+    public static String newYearJson(int year, String countryCode) {
+        return arrayJson(List.of(holidayJson(year + "-01-01", "새해", "New Year's Day", countryCode)));
+    }
+
+    public static String arrayJson(List<String> items) {
+        return items.stream().collect(Collectors.joining(",", "[", "]"));
+    }
+
+    public static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, body, Map.of());
+    }
+
+    public static void respond(HttpExchange exchange, int status, String body, Map<String, String> headers)
+        throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}